@@ -0,0 +1,69 @@
+package com.kodikas.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa leituras e escritas entre o primário e as réplicas de leitura.
+ * <p>
+ * Ativado com {@code kodikas.datasource.routing.enabled=true}. O primário continua vindo de
+ * {@code spring.datasource.*}; cada réplica de {@code kodikas.datasource.replicas[n].*} ganha um pool
+ * Hikari próprio, somente leitura. Os pools publicam as métricas {@code hikaricp.*} com a tag
+ * {@code pool} ({@code primary}, {@code replica-0}, ...). Flyway, o outbox e as demais escritas
+ * continuam no primário, já que não rodam em transações somente leitura.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kodikas.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, ReadReplicaProperties.class})
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadReplicas readReplicas(ReadReplicaProperties properties, DataSourceProperties primaryProperties,
+                                     MeterRegistry meterRegistry) {
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.replicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(primaryProperties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(replica.username() != null ? replica.username() : primaryProperties.determineUsername());
+            dataSource.setPassword(replica.password() != null ? replica.password() : primaryProperties.determinePassword());
+            dataSource.setMaximumPoolSize(properties.replicaPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            dataSources.add(dataSource);
+        }
+        return new ReadReplicas(dataSources, properties.maxLag().toMillis(), meterRegistry);
+    }
+
+    /**
+     * DataSource da aplicação: a conexão só é obtida no primeiro comando, quando já se sabe se a
+     * transação é somente leitura, e então roteada para uma réplica ou para o primário.
+     */
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ReadReplicas readReplicas, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return new ReadWriteRoutingDataSource(primary, readReplicas, meterRegistry).lazy();
+    }
+}
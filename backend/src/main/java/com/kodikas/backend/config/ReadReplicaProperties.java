@@ -0,0 +1,27 @@
+package com.kodikas.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura usadas pelo roteamento de DataSource ({@code kodikas.datasource.*}).
+ *
+ * @param replicas         Conexões das réplicas.
+ * @param replicaPoolSize  Tamanho máximo do pool de cada réplica.
+ * @param maxLag           Atraso de replicação acima do qual a réplica deixa de receber leituras.
+ * @param lagCheckInterval Intervalo entre as verificações de atraso.
+ */
+@ConfigurationProperties("kodikas.datasource")
+public record ReadReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("20") int replicaPoolSize,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("2s") Duration lagCheckInterval
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
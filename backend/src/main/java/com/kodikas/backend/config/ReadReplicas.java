@@ -0,0 +1,123 @@
+package com.kodikas.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Pools das réplicas de leitura e o estado de cada uma.
+ * <p>
+ * O atraso de replicação é medido periodicamente; réplicas acima de {@code kodikas.datasource.max-lag},
+ * ou que não respondem, saem do rodízio até a próxima verificação. Sem réplicas disponíveis, as
+ * leituras voltam para o primário.
+ */
+public class ReadReplicas implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicas.class);
+
+    // Em um servidor que não é réplica (ou com a réplica em dia) o atraso é zero
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END
+            """;
+
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicas(List<HikariDataSource> dataSources, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicas = IntStream.range(0, dataSources.size())
+                .mapToObj(i -> new Replica("replica-" + i, dataSources.get(i)))
+                .toList();
+        this.maxLagMillis = maxLagMillis;
+        for (Replica replica : replicas) {
+            Gauge.builder("kodikas.datasource.replica.lag", replica, r -> r.lagMillis)
+                    .tag("pool", replica.key)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("kodikas.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("pool", replica.key)
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Escolhe a próxima réplica disponível, em rodízio.
+     *
+     * @return Chave da réplica ou null se nenhuma estiver disponível.
+     */
+    public String nextAvailableKey() {
+        int size = replicas.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), size));
+            if (replica.available) {
+                return replica.key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mede o atraso de cada réplica e atualiza a disponibilidade.
+     */
+    @Scheduled(fixedDelayString = "${kodikas.datasource.lag-check-interval:2s}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try {
+                Double lag = replica.jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+                replica.lagMillis = lag != null ? lag : 0;
+                replica.available = replica.lagMillis <= maxLagMillis;
+            } catch (RuntimeException e) {
+                replica.lagMillis = Double.NaN;
+                replica.available = false;
+            }
+            if (wasAvailable != replica.available) {
+                logger.warn("Réplica {} {} (atraso: {} ms).", replica.key,
+                        replica.available ? "voltou ao rodízio de leituras" : "removida do rodízio de leituras",
+                        replica.lagMillis);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    public static final class Replica {
+        private final String key;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean available = true;
+        private volatile double lagMillis;
+
+        private Replica(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public HikariDataSource getDataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.kodikas.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Envia as conexões de transações somente leitura ({@code @Transactional(readOnly = true)}) para uma
+ * réplica disponível e todas as demais para o primário.
+ * <p>
+ * Deve ser usado atrás de um {@link LazyConnectionDataSourceProxy} ({@link #lazy()}): a conexão só é
+ * obtida no primeiro comando, quando a transação já está marcada como somente leitura.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReadReplicas readReplicas;
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReadReplicas readReplicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readReplicas = readReplicas;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        readReplicas.getReplicas().forEach(replica -> targets.put(replica.getKey(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        targets.keySet().forEach(key -> routedCounters.put((String) key,
+                Counter.builder("kodikas.datasource.routed").tag("pool", (String) key).register(meterRegistry)));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = null;
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            key = readReplicas.nextAvailableKey();
+        }
+        if (key == null) {
+            key = PRIMARY;
+        }
+        routedCounters.get(key).increment();
+        return key;
+    }
+
+    /**
+     * @return Proxy que adia a obtenção da conexão e fecha o pool primário no desligamento.
+     */
+    public DataSource lazy() {
+        afterPropertiesSet();
+        return new Lazy(this);
+    }
+
+    private static final class Lazy extends LazyConnectionDataSourceProxy implements Closeable {
+        private final ReadWriteRoutingDataSource routing;
+
+        private Lazy(ReadWriteRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() {
+            // As réplicas são fechadas por ReadReplicas
+            if (routing.primary instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
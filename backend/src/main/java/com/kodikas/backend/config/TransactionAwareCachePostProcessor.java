@@ -0,0 +1,23 @@
+package com.kodikas.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envolve o {@link CacheManager} da aplicação para que as remoções e inclusões feitas dentro de uma
+ * transação só aconteçam após o commit. Sem isso, uma leitura concorrente entre a remoção e o commit
+ * recarrega a versão antiga do banco e a mantém em cache até o fim do TTL.
+ */
+@Component
+public class TransactionAwareCachePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+            return new TransactionAwareCacheManagerProxy(cacheManager);
+        }
+        return bean;
+    }
+}
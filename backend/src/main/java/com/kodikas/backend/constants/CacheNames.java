@@ -0,0 +1,14 @@
+package com.kodikas.backend.constants;
+
+/**
+ * Nomes dos caches de leitura por ID. Os nomes também precisam constar em
+ * {@code spring.cache.cache-names} para que as métricas sejam registradas no actuator.
+ * Campos desnormalizados (como o nome do usuário em um projeto) podem ficar
+ * desatualizados até o TTL configurado em {@code spring.cache.caffeine.spec}.
+ */
+public class CacheNames {
+    public static final String USERS = "users";
+    public static final String PROJECTS = "projects";
+    public static final String COMPANIES = "companies";
+    public static final String APPLICATIONS = "applications";
+}
@@ -0,0 +1,8 @@
+package com.kodikas.backend.constants;
+
+public class ExportConstants {
+    /**
+     * Quantidade de linhas buscadas por ida ao banco nas consultas de exportação em streaming.
+     */
+    public static final String FETCH_SIZE = "1000";
+}
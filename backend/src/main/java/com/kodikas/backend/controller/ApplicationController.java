@@ -0,0 +1,342 @@
+package com.kodikas.backend.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.applicationsDTO.DataCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateApplication;
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateStatusApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseDetailByIdDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseImportStatusDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseStatusStatsDTO;
+import com.kodikas.backend.dto.bulkDTO.DataBulkIdsDTO;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkResult;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.service.ApplicationImportService;
+import com.kodikas.backend.service.ApplicationService;
+import com.kodikas.backend.service.ApplicationStatusStreamHub;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Controlador responsável por gerenciar as operações relacionadas às aplicações.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/applcations")
+public class ApplicationController {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationController.class);
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private ApplicationStatusStreamHub applicationStatusStreamHub;
+
+    /**
+     * Obtém uma página de aplicações ativas.
+     *
+     * @param after Cursor retornado pela página anterior (opcional).
+     * @param limit Quantidade máxima de aplicações na página (opcional).
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return Página de aplicações ativas encapsulada em um ResponseEntity.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ResponseCursorPage<ResponseCreateApplicationDTO>> getAllActiveApplications(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        try {
+            String etag = applicationService.getApplicationsPageETag(after, limit);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseCursorPage<ResponseCreateApplicationDTO>> applications = applicationService.getAllActiveApplications(after, limit);
+            return ResponseEntity.ok().eTag(applications.etag()).body(applications.body());
+        } catch (IllegalArgumentException e) {
+            logger.error("Parâmetros de paginação inválidos: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exporta todas as aplicações ativas em NDJSON (um objeto JSON por linha), em streaming.
+     *
+     * @return Corpo em streaming encapsulado em um ResponseEntity.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportApplications() {
+        StreamingResponseBody body = applicationService::exportActiveApplications;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Abre um stream SSE com as mudanças de status das aplicações de um usuário, enviadas
+     * assim que são confirmadas no banco (evento {@code status}).
+     *
+     * @param userId ID do usuário dono das aplicações.
+     * @return Emitter da conexão SSE.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(@RequestParam Long userId) {
+        return applicationStatusStreamHub.subscribe(userId);
+    }
+
+    /**
+     * Obtém os detalhes de uma aplicação pelo ID.
+     *
+     * @param id ID da aplicação.
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return Detalhes da aplicação encapsulados em um ResponseEntity.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseDetailByIdDTO> getApplicationById(@PathVariable Long id, WebRequest webRequest) {
+        try {
+            String etag = applicationService.getApplicationETag(id);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseDetailByIdDTO> application = applicationService.getApplicationById(id);
+            return ResponseEntity.ok().eTag(application.etag()).body(application.body());
+        } catch (EntityNotFoundException e) {
+            logger.error("Aplicação não encontrada com ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Conta as aplicações ativas de um usuário por status.
+     *
+     * @param userId ID do usuário.
+     * @return Total e quantidade de aplicações por status encapsulados em um ResponseEntity.
+     */
+    @GetMapping("/stats/users/{userId}")
+    public ResponseEntity<ResponseStatusStatsDTO> getStatusStatsByUser(@PathVariable Long userId) {
+        try {
+            return ResponseEntity.ok(applicationService.getStatusStatsByUser(userId));
+        } catch (UserNotFoundException e) {
+            logger.error("Usuário não encontrado com ID: {}", userId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Conta as aplicações ativas dos usuários de uma empresa por status.
+     *
+     * @param companyId ID da empresa.
+     * @return Total e quantidade de aplicações por status encapsulados em um ResponseEntity.
+     */
+    @GetMapping("/stats/companies/{companyId}")
+    public ResponseEntity<ResponseStatusStatsDTO> getStatusStatsByCompany(@PathVariable Long companyId) {
+        try {
+            return ResponseEntity.ok(applicationService.getStatusStatsByCompany(companyId));
+        } catch (EntityNotFoundException e) {
+            logger.error("Empresa não encontrada com ID: {}", companyId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Cria uma nova aplicação.
+     *
+     * @param application Dados para criação da aplicação.
+     * @return Detalhes da aplicação criada encapsulados em um ResponseEntity.
+     */
+    @PostMapping("/create")
+    @Transactional
+    public ResponseEntity<ResponseCreateApplicationDTO> createApplication(@RequestBody @Valid DataCreateApplicationDTO application) {
+        try {
+            ResponseCreateApplicationDTO created = applicationService.createApplication(application);
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao criar aplicação: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cria várias aplicações em uma única transação.
+     *
+     * @param applications Dados para criação das aplicações.
+     * @return Resultado por item do lote encapsulado em um ResponseEntity.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseBulkResult<ResponseCreateApplicationDTO>> createApplications(@RequestBody List<DataCreateApplicationDTO> applications) {
+        try {
+            ResponseBulkResult<ResponseCreateApplicationDTO> result = applicationService.createApplications(applications);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.error("Lote de aplicações inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Inicia a importação de aplicações a partir de um arquivo CSV com o cabeçalho
+     * {@code name,description,status,userId}. A importação é processada em segundo plano.
+     *
+     * @param file Arquivo CSV.
+     * @return Situação inicial da importação encapsulada em um ResponseEntity.
+     * @throws IOException se o arquivo não puder ser lido; tratado pelo {@code GlobalExceptionHandler}.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ResponseImportStatusDTO> importApplications(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        try {
+            ResponseImportStatusDTO status = applicationImportService.startImport(file);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalArgumentException e) {
+            logger.error("Arquivo de importação inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Obtém o progresso e os erros por linha de uma importação.
+     *
+     * @param importId ID da importação.
+     * @return Situação da importação encapsulada em um ResponseEntity.
+     */
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ResponseImportStatusDTO> getImportStatus(@PathVariable UUID importId) {
+        try {
+            return ResponseEntity.ok(applicationImportService.getImportStatus(importId));
+        } catch (EntityNotFoundException e) {
+            logger.error("Importação não encontrada com ID: {}", importId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Atualiza uma aplicação existente.
+     *
+     * @param id ID da aplicação a ser atualizada.
+     * @param applicationDetails Dados para atualização da aplicação.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Detalhes da aplicação atualizada encapsulados em um ResponseEntity.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ResponseDetailByIdDTO> updateApplication(@PathVariable Long id, @RequestBody DataUpdateApplication applicationDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        try {
+            ResponseDetailByIdDTO updatedApplication = applicationService.updateApplication(id, applicationDetails, expectedVersions);
+            return ResponseEntity.ok(updatedApplication);
+        } catch (EntityNotFoundException | UserNotFoundException e) {
+            logger.error("Erro ao atualizar aplicação: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar aplicação com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar aplicação com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Atualiza parcialmente uma aplicação, alterando apenas os campos informados.
+     *
+     * @param id      ID da aplicação.
+     * @param applicationDetails Campos a serem alterados.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Status 204 (No Content) com o novo ETag da aplicação.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchApplication(@PathVariable Long id, @RequestBody DataUpdateApplication applicationDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        try {
+            String etag = applicationService.patchApplication(id, applicationDetails, expectedVersions);
+            return ResponseEntity.noContent().eTag(etag).build();
+        } catch (EntityNotFoundException | UserNotFoundException e) {
+            logger.error("Erro ao atualizar parcialmente aplicação: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar aplicação com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar aplicação com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requisição inválida ao atualizar aplicação com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exclui uma aplicação pelo ID.
+     *
+     * @param id ID da aplicação a ser excluída.
+     * @return ResponseEntity vazio indicando o sucesso ou falha da operação.
+     */
+    @PutMapping("/delete/{id}")
+    @Transactional
+    public ResponseEntity<Void> deleteApplication(@PathVariable Long id) {
+        try {
+            applicationService.deleteApplication(id);
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao excluir aplicação: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Exclui logicamente várias aplicações.
+     *
+     * @param dto IDs das aplicações a serem excluídas.
+     * @return IDs excluídos e ignorados encapsulados em um ResponseEntity.
+     */
+    @PutMapping("/delete/bulk")
+    public ResponseEntity<ResponseBulkUpdateDTO> deleteApplications(@RequestBody @Valid DataBulkIdsDTO dto) {
+        try {
+            return ResponseEntity.ok(applicationService.deleteApplications(dto.ids()));
+        } catch (IllegalArgumentException e) {
+            logger.error("Lote de exclusão de aplicações inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Altera o status de várias aplicações ativas.
+     *
+     * @param dto IDs das aplicações e o novo status.
+     * @return IDs alterados e ignorados encapsulados em um ResponseEntity.
+     */
+    @PutMapping("/status")
+    public ResponseEntity<ResponseBulkUpdateDTO> updateApplicationsStatus(@RequestBody @Valid DataUpdateStatusApplicationDTO dto) {
+        try {
+            return ResponseEntity.ok(applicationService.updateApplicationsStatus(dto));
+        } catch (IllegalArgumentException e) {
+            logger.error("Lote de alteração de status inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.kodikas.backend.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.companiesDTO.DataCreateCompanyDTO;
+import com.kodikas.backend.dto.companiesDTO.DataUpdateCompany;
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.service.CompanyService;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+
+/**
+ * Controlador responsável por gerenciar as operações relacionadas às empresas.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/companies")
+public class CompanyController {
+    private static final Logger logger = LoggerFactory.getLogger(CompanyController.class);
+
+    @Autowired
+    private CompanyService companyService;
+
+    /**
+     * Retorna uma página de empresas ativas.
+     *
+     * @param after Cursor retornado pela página anterior (opcional).
+     * @param limit Quantidade máxima de empresas na página (opcional).
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return ResponseEntity contendo a página de empresas ativas.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ResponseCursorPage<ResponseCreateCompany>> getAllCompanies(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        try {
+            String etag = companyService.getCompaniesPageETag(after, limit);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseCursorPage<ResponseCreateCompany>> companies = companyService.getAllActiveCompanies(after, limit);
+            return ResponseEntity.ok().eTag(companies.etag()).body(companies.body());
+        } catch (IllegalArgumentException e) {
+            logger.error("Parâmetros de paginação inválidos: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Retorna os detalhes de uma empresa pelo ID.
+     *
+     * @param id ID da empresa.
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return ResponseEntity contendo os detalhes da empresa.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseCreateCompany> getCompanyById(@PathVariable Long id, WebRequest webRequest) {
+        try {
+            String etag = companyService.getCompanyETag(id);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseCreateCompany> company = companyService.getCompanyById(id);
+            return ResponseEntity.ok().eTag(company.etag()).body(company.body());
+        } catch (EntityNotFoundException e) {
+            logger.error("Empresa não encontrada com ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Cria uma nova empresa.
+     *
+     * @param company Dados para criação da empresa.
+     * @return ResponseEntity contendo os detalhes da empresa criada.
+     */
+    @PostMapping("/create")
+    @Transactional
+    public ResponseEntity<ResponseCreateCompany> createCompany(@RequestBody @Valid DataCreateCompanyDTO company) {
+        try {
+            ResponseCreateCompany createdCompany = companyService.createCompany(company);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdCompany);
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao criar empresa: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Atualiza os dados de uma empresa existente.
+     *
+     * @param id      ID da empresa a ser atualizada.
+     * @param company Dados para atualização da empresa.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return ResponseEntity contendo os detalhes da empresa atualizada.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ResponseCreateCompany> updateCompany(@PathVariable Long id, @RequestBody DataUpdateCompany company,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<String> expectedTags = ETags.parseTags(ifMatch);
+        try {
+            ResponseCreateCompany updatedCompany = companyService.updateCompany(id, company, expectedTags);
+            return ResponseEntity.ok(updatedCompany);
+        } catch (EntityNotFoundException e) {
+            logger.error("Empresa não encontrada com ID: {}", id);
+            return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar empresa com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar empresa com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Atualiza parcialmente uma empresa, alterando apenas os campos informados.
+     *
+     * @param id      ID da empresa.
+     * @param company Campos a serem alterados.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Status 204 (No Content) com o novo ETag da empresa.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchCompany(@PathVariable Long id, @RequestBody DataUpdateCompany company,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<String> expectedTags = ETags.parseTags(ifMatch);
+        try {
+            String etag = companyService.patchCompany(id, company, expectedTags);
+            return ResponseEntity.noContent().eTag(etag).build();
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao atualizar parcialmente empresa: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar empresa com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar empresa com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requisição inválida ao atualizar empresa com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exclui logicamente uma empresa pelo ID.
+     *
+     * @param id ID da empresa a ser excluída.
+     * @return ResponseEntity vazio indicando o sucesso ou falha da operação.
+     */
+    @PutMapping("/delete/{id}")
+    @Transactional
+    public ResponseEntity<Void> deleteCompany(@PathVariable Long id) {
+        try {
+            companyService.deleteCompany(id);
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao excluir Empresa. Empresa não encontrada com ID: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.kodikas.backend.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.bulkDTO.DataBulkIdsDTO;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkResult;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.projectsDTO.*;
+import com.kodikas.backend.exception.CompanyNotFoundException;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.service.ProjectService;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Controlador responsável por gerenciar as operações relacionadas aos projetos.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/projects")
+public class ProjectController {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
+
+    @Autowired
+    private ProjectService projectService;
+
+    /**
+     * Retorna uma página de projetos ativos.
+     *
+     * @param after Cursor retornado pela página anterior (opcional).
+     * @param limit Quantidade máxima de projetos na página (opcional).
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return ResponseEntity contendo a página de projetos ativos.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ResponseCursorPage<ResponseListProject>> getAllProjects(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        try {
+            String etag = projectService.getProjectsPageETag(after, limit);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseCursorPage<ResponseListProject>> projects = projectService.getAllProjects(after, limit);
+            return ResponseEntity.ok().eTag(projects.etag()).body(projects.body());
+        } catch (IllegalArgumentException e) {
+            logger.error("Parâmetros de paginação inválidos: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exporta todos os projetos ativos em NDJSON (um objeto JSON por linha), em streaming.
+     *
+     * @return ResponseEntity contendo o corpo em streaming.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        StreamingResponseBody body = projectService::exportActiveProjects;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retorna os detalhes de um projeto pelo ID.
+     *
+     * @param id ID do projeto.
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return ResponseEntity contendo os detalhes do projeto.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseDetailsProject> getProjectById(@PathVariable Long id, WebRequest webRequest) {
+        try {
+            String etag = projectService.getProjectETag(id);
+            if (ETags.isNotModified(webRequest, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            Tagged<ResponseDetailsProject> project = projectService.getProjectById(id);
+            return ResponseEntity.ok().eTag(project.etag()).body(project.body());
+        } catch (IllegalArgumentException e) {
+            logger.error("Projeto não encontrado com ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Cria um novo projeto.
+     *
+     * @param project Dados para criação do projeto.
+     * @return ResponseEntity contendo os detalhes do projeto criado.
+     */
+    @PostMapping("/create")
+    @Transactional
+    public ResponseEntity<ResponseCreateProjectDTO> createProject(@RequestBody @Valid DataCreateProjectDTO project) {
+        try {
+            ResponseCreateProjectDTO createdProject = projectService.createProject(project);
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
+        } catch (EntityNotFoundException e) {
+            logger.error("Erro ao criar projeto: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Cria vários projetos em uma única transação.
+     *
+     * @param projects Dados para criação dos projetos.
+     * @return ResponseEntity contendo o resultado por item do lote.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ResponseBulkResult<ResponseCreateProjectDTO>> createProjects(@RequestBody List<DataCreateProjectDTO> projects) {
+        try {
+            ResponseBulkResult<ResponseCreateProjectDTO> result = projectService.createProjects(projects);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.error("Lote de projetos inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Atualiza os dados de um projeto existente.
+     *
+     * @param id ID do projeto a ser atualizado.
+     * @param projectDetails Dados para atualização do projeto.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return ResponseEntity contendo os detalhes do projeto atualizado.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ResponseDetailsProject> updateProject(@PathVariable Long id, @RequestBody DataUpdateProject projectDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        try {
+            ResponseDetailsProject updatedProject = projectService.updateProject(id, projectDetails, expectedVersions);
+            return ResponseEntity.ok(updatedProject);
+        } catch (EntityNotFoundException e) {
+            logger.error("Projeto não encontrado com ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (UserNotFoundException | CompanyNotFoundException e) {
+            logger.error("Erro ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Atualiza parcialmente um projeto, alterando apenas os campos informados.
+     *
+     * @param id      ID do projeto.
+     * @param projectDetails Campos a serem alterados.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Status 204 (No Content) com o novo ETag do projeto.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchProject(@PathVariable Long id, @RequestBody DataUpdateProject projectDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        try {
+            String etag = projectService.patchProject(id, projectDetails, expectedVersions);
+            return ResponseEntity.noContent().eTag(etag).build();
+        } catch (EntityNotFoundException | UserNotFoundException | CompanyNotFoundException e) {
+            logger.error("Erro ao atualizar parcialmente projeto: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        } catch (PreconditionFailedException e) {
+            logger.warn("Versão desatualizada ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            logger.warn("Conflito ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            logger.warn("Requisição inválida ao atualizar projeto com ID {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exclui logicamente um projeto pelo ID.
+     *
+     * @param id ID do projeto a ser excluído.
+     * @return ResponseEntity vazio indicando o sucesso ou falha da operação.
+     */
+    @PutMapping("/delete/{id}")
+    @Transactional
+    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
+        try {
+            projectService.deleteProject(id);
+            return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            logger.error("Projeto não encontrado com ID: {}", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Exclui logicamente vários projetos.
+     *
+     * @param dto IDs dos projetos a serem excluídos.
+     * @return ResponseEntity contendo os IDs excluídos e ignorados.
+     */
+    @PutMapping("/delete/bulk")
+    public ResponseEntity<ResponseBulkUpdateDTO> deleteProjects(@RequestBody @Valid DataBulkIdsDTO dto) {
+        try {
+            return ResponseEntity.ok(projectService.deleteProjects(dto.ids()));
+        } catch (IllegalArgumentException e) {
+            logger.error("Lote de exclusão de projetos inválido: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
\ No newline at end of file
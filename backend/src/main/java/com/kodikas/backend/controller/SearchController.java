@@ -0,0 +1,45 @@
+package com.kodikas.backend.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.searchDTO.ResponseSearchResultDTO;
+import com.kodikas.backend.model.SearchType;
+import com.kodikas.backend.service.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * Controlador responsável pela busca textual em aplicações, projetos e empresas.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Busca por palavras-chave no nome e na descrição, do resultado mais para o menos relevante.
+     *
+     * @param q          Termos da busca.
+     * @param types      Tipos de entidade a buscar, separados por vírgula (opcional; padrão: todos).
+     * @param activeOnly Se true, retorna apenas registros ativos (padrão: true).
+     * @param after      Cursor retornado pela página anterior (opcional).
+     * @param limit      Quantidade máxima de resultados na página (opcional).
+     * @return Página de resultados ordenados por relevância.
+     */
+    @GetMapping
+    public ResponseEntity<ResponseCursorPage<ResponseSearchResultDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<SearchType> types,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(searchService.search(q, types, activeOnly, after, limit));
+    }
+}
@@ -0,0 +1,160 @@
+package com.kodikas.backend.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.bulkDTO.DataBulkIdsDTO;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.errorDTO.ErrorResponse;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.userDTO.*;
+import com.kodikas.backend.service.UserService;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
+
+/**
+ * Controlador responsável por gerenciar as operações relacionadas aos usuários.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/users")
+public class UserController {
+
+    private final UserService userService;
+
+    public UserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * Retorna uma página de usuários ativos.
+     *
+     * @param after Cursor retornado pela página anterior (opcional).
+     * @param limit Quantidade máxima de usuários na página (opcional).
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return Página de usuários ativos.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ResponseCursorPage<ResponseListUsers>> getAllUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        String etag = userService.getUsersPageETag(after, limit);
+        if (ETags.isNotModified(webRequest, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Tagged<ResponseCursorPage<ResponseListUsers>> users = userService.getAllUsers(after, limit);
+        return ResponseEntity.ok().eTag(users.etag()).body(users.body());
+    }
+
+    /**
+     * Exporta todos os usuários ativos em NDJSON (um objeto JSON por linha), em streaming.
+     *
+     * @return Corpo em streaming.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = userService::exportActiveUsers;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retorna os detalhes de um usuário pelo ID.
+     *
+     * @param id ID do usuário.
+     * @param webRequest Requisição atual, usada para responder 304 quando o ETag não mudou.
+     * @return Detalhes do usuário.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseDetailUserDTO> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = userService.getUserETag(id);
+        if (ETags.isNotModified(webRequest, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Tagged<ResponseDetailUserDTO> user = userService.getUser(id);
+        return ResponseEntity.ok().eTag(user.etag()).body(user.body());
+    }
+
+    /**
+     * Cria um novo usuário.
+     *
+     * @param user Dados para criação do usuário.
+     * @return Detalhes do usuário criado.
+     */
+    @PostMapping("/create")
+    @Transactional
+    public ResponseEntity<ResponseCreateUserDTO> createUser(@Valid @RequestBody DataCreateUserDTO user) {
+        ResponseCreateUserDTO createdUser = userService.createUser(user);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+    }
+
+    /**
+     * Atualiza os dados de um usuário existente.
+     *
+     * @param id      ID do usuário.
+     * @param user    Dados atualizados do usuário.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Detalhes do usuário atualizado.
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ResponseDetailUserDTO> updateUser(
+            @PathVariable Long id,
+            @Valid @RequestBody DataUpdateUser user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        ResponseDetailUserDTO updatedUser = userService.updateUser(id, user, expectedVersions);
+        return ResponseEntity.ok(updatedUser);
+    }
+
+    /**
+     * Atualiza parcialmente um usuário, alterando apenas os campos informados.
+     *
+     * @param id      ID do usuário.
+     * @param user    Campos a serem alterados.
+     * @param ifMatch ETag obtido na leitura (opcional); se informado, a atualização só ocorre nessa versão.
+     * @return Status 204 (No Content) com o novo ETag do usuário.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchUser(
+            @PathVariable Long id,
+            @Valid @RequestBody DataUpdateUser user,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Set<Long> expectedVersions = ETags.parseVersions(ifMatch);
+        String etag = userService.patchUser(id, user, expectedVersions);
+        return ResponseEntity.noContent().eTag(etag).build();
+    }
+
+    /**
+     * Realiza exclusão lógica de um usuário.
+     *
+     * @param id ID do usuário.
+     * @return Status 204 (No Content) se for bem-sucedido.
+     */
+    @PutMapping("/delete/{id}")
+    @Transactional
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Realiza exclusão lógica de vários usuários.
+     *
+     * @param dto IDs dos usuários.
+     * @return IDs excluídos e ignorados.
+     */
+    @PutMapping("/delete/bulk")
+    public ResponseEntity<ResponseBulkUpdateDTO> deleteUsers(@Valid @RequestBody DataBulkIdsDTO dto) {
+        return ResponseEntity.ok(userService.deleteUsers(dto.ids()));
+    }
+}
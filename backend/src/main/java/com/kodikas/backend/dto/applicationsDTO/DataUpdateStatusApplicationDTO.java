@@ -0,0 +1,16 @@
+package com.kodikas.backend.dto.applicationsDTO;
+
+import com.kodikas.backend.model.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record DataUpdateStatusApplicationDTO(
+        @NotEmpty(message = "A lista de IDs não pode estar vazia.")
+        List<@NotNull(message = "Os IDs não podem ser nulos.") Long> ids,
+
+        @NotNull(message = "O status não pode ser nulo.")
+        ApplicationStatus status
+) {
+}
@@ -0,0 +1,7 @@
+package com.kodikas.backend.dto.applicationsDTO;
+
+public record ResponseImportErrorDTO(
+        long line,
+        String error
+) {
+}
@@ -0,0 +1,18 @@
+package com.kodikas.backend.dto.applicationsDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ResponseImportStatusDTO(
+        UUID importId,
+        String status,
+        long linesRead,
+        long linesStaged,
+        long linesImported,
+        long linesRejected,
+        String startedAt,
+        String finishedAt,
+        String message,
+        List<ResponseImportErrorDTO> errors
+) {
+}
@@ -0,0 +1,9 @@
+package com.kodikas.backend.dto.applicationsDTO;
+
+public record ResponseStatusChangeDTO(
+        Long applicationId,
+        String previousStatus,
+        String status,
+        String changedAt
+) {
+}
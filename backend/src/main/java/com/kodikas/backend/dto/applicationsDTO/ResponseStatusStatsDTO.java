@@ -0,0 +1,10 @@
+package com.kodikas.backend.dto.applicationsDTO;
+
+import java.util.Map;
+
+public record ResponseStatusStatsDTO(
+        Long ownerId,
+        long total,
+        Map<String, Long> byStatus
+) {
+}
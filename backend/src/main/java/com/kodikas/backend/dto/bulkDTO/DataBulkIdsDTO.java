@@ -0,0 +1,12 @@
+package com.kodikas.backend.dto.bulkDTO;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record DataBulkIdsDTO(
+        @NotEmpty(message = "A lista de IDs não pode estar vazia.")
+        List<@NotNull(message = "Os IDs não podem ser nulos.") Long> ids
+) {
+}
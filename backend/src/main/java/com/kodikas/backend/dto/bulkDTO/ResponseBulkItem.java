@@ -0,0 +1,9 @@
+package com.kodikas.backend.dto.bulkDTO;
+
+public record ResponseBulkItem<T>(
+        int index,
+        boolean success,
+        T data,
+        String error
+) {
+}
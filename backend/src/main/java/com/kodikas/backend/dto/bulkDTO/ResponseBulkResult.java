@@ -0,0 +1,11 @@
+package com.kodikas.backend.dto.bulkDTO;
+
+import java.util.List;
+
+public record ResponseBulkResult<T>(
+        int total,
+        int succeeded,
+        int failed,
+        List<ResponseBulkItem<T>> items
+) {
+}
@@ -0,0 +1,10 @@
+package com.kodikas.backend.dto.bulkDTO;
+
+import java.util.List;
+
+public record ResponseBulkUpdateDTO(
+        int updated,
+        List<Long> updatedIds,
+        List<Long> notUpdatedIds
+) {
+}
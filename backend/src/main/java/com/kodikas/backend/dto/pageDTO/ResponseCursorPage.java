@@ -0,0 +1,10 @@
+package com.kodikas.backend.dto.pageDTO;
+
+import java.util.List;
+
+public record ResponseCursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        int limit
+) {
+}
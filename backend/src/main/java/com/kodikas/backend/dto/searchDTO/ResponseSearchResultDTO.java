@@ -0,0 +1,13 @@
+package com.kodikas.backend.dto.searchDTO;
+
+import com.kodikas.backend.model.SearchType;
+
+public record ResponseSearchResultDTO(
+        SearchType type,
+        Long id,
+        String name,
+        String description,
+        Boolean ativo,
+        float rank
+) {
+}
@@ -0,0 +1,23 @@
+package com.kodikas.backend.event;
+
+import com.kodikas.backend.model.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicado quando o status de uma aplicação muda. Os ouvintes recebem o evento apenas após o commit.
+ *
+ * @param applicationId  ID da aplicação.
+ * @param userId         Usuário dono da aplicação.
+ * @param previousStatus Status anterior.
+ * @param newStatus      Novo status.
+ * @param changedAt      Momento da alteração.
+ */
+public record ApplicationStatusChangedEvent(
+        Long applicationId,
+        Long userId,
+        ApplicationStatus previousStatus,
+        ApplicationStatus newStatus,
+        LocalDateTime changedAt
+) {
+}
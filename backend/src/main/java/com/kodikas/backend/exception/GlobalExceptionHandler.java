@@ -0,0 +1,235 @@
+package com.kodikas.backend.exception;
+
+import com.kodikas.backend.dto.errorDTO.ErrorResponse;
+import com.kodikas.backend.metrics.MetricsOutcome;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.*;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+/**
+ * Classe responsável por capturar e tratar exceções lançadas pela aplicação
+ * de forma centralizada, utilizando a anotação {@link RestControllerAdvice}.
+ * Garante que os erros sejam convertidos em respostas padronizadas e amigáveis ao cliente.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Trata exceções do tipo {@link EntityNotFoundException}, normalmente lançadas
+     * quando uma entidade não é encontrada no banco de dados.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 404 e corpo padronizado.
+     */
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEntityNotFound(EntityNotFoundException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.NOT_FOUND);
+        logger.warn("Entidade não encontrada: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Recurso não encontrado",
+                ex.getMessage(),
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    /**
+     * Trata exceções do tipo {@link IllegalArgumentException}, geralmente relacionadas
+     * a parâmetros inválidos em requisições.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 400 e corpo padronizado.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.warn("Requisição inválida: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Parâmetro inválido",
+                ex.getMessage(),
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.BAD_REQUEST.value()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Trata exceções do tipo {@link MethodArgumentNotValidException}, que ocorrem
+     * quando validações com anotações como {@code @Valid} falham.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 400 e mensagens de erro detalhadas dos campos.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.warn("Erro de validação: {}", ex.getMessage());
+
+        String details = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+
+        ErrorResponse error = new ErrorResponse(
+                "Erro de validação",
+                details,
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.BAD_REQUEST.value()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Trata exceções do tipo {@link UserNotFoundException}, que são lançadas
+     * quando um usuário não é encontrado no sistema.
+     *
+     * @param ex      Exceção capturada contendo informações sobre o erro.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 404 (Not Found) e um corpo padronizado
+     * contendo detalhes do erro, como mensagem, timestamp e código de status HTTP.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.NOT_FOUND);
+        logger.warn("Usuário não encontrado: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Recurso não encontrado",
+                ex.getMessage(),
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    /**
+     * Trata exceções do tipo {@link CompanyNotFoundException}, lançadas quando uma empresa
+     * referenciada na requisição não existe.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 404 e corpo padronizado.
+     */
+    @ExceptionHandler(CompanyNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCompanyNotFound(CompanyNotFoundException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.NOT_FOUND);
+        logger.warn("Empresa não encontrada: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Recurso não encontrado",
+                ex.getMessage(),
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.NOT_FOUND.value()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    /**
+     * Trata exceções do tipo {@link PreconditionFailedException}, lançadas quando a versão
+     * informada no cabeçalho {@code If-Match} não corresponde mais à versão atual do recurso.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 412 e corpo padronizado.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.warn("Pré-condição não atendida: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Versão desatualizada",
+                ex.getMessage(),
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.PRECONDITION_FAILED.value()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    /**
+     * Trata conflitos de escrita: atualizações concorrentes detectadas pela coluna {@code version}
+     * ({@link OptimisticLockingFailureException}) e violações de restrições do banco
+     * ({@link DataIntegrityViolationException}), como e-mail duplicado.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 409 e corpo padronizado.
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, DataIntegrityViolationException.class})
+    public ResponseEntity<ErrorResponse> handleConflict(Exception ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.warn("Conflito ao salvar: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Conflito",
+                "O recurso foi alterado por outra requisição ou viola uma restrição. Recarregue e tente novamente.",
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.CONFLICT.value()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Trata exceções lançadas quando não é possível obter uma conexão do pool dentro do
+     * tempo configurado em {@code spring.datasource.hikari.connection-timeout}. O pool de conexões
+     * é o limite de concorrência da aplicação (inclusive no modo com threads virtuais), então a
+     * requisição é recusada em vez de ficar aguardando indefinidamente.
+     *
+     * @param ex      Exceção capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 503 e corpo padronizado.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(Exception ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.warn("Conexão com o banco indisponível: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+                "Serviço indisponível",
+                "O servidor está sobrecarregado. Tente novamente em instantes.",
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.SERVICE_UNAVAILABLE.value()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    /**
+     * Captura qualquer outra exceção não tratada especificamente pelos outros handlers.
+     * É uma proteção global contra erros inesperados.
+     *
+     * @param ex      Exceção genérica capturada.
+     * @param request Requisição atual, marcada com o resultado para as métricas.
+     * @return {@link ResponseEntity} com status 500 e mensagem genérica.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, HttpServletRequest request) {
+        MetricsOutcome.mark(request, MetricsOutcome.ERROR);
+        logger.error("Erro interno do servidor: {}", ex.getMessage(), ex);
+
+        ErrorResponse error = new ErrorResponse(
+                "Erro interno",
+                "Ocorreu um erro inesperado. Tente novamente mais tarde.",
+                String.valueOf(System.currentTimeMillis()),
+                HttpStatus.INTERNAL_SERVER_ERROR.value()
+        );
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    }
+}
@@ -0,0 +1,9 @@
+package com.kodikas.backend.exception;
+
+import java.util.Collection;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(Long id, Collection<?> expectedVersions) {
+        super("O recurso com o ID " + id + " não está em nenhuma das versões " + expectedVersions);
+    }
+}
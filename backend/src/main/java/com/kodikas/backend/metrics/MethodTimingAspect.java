@@ -0,0 +1,67 @@
+package com.kodikas.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra um timer por método público dos pacotes {@code controller}, {@code service} e
+ * {@code repository} ({@code kodikas.controller.method}, {@code kodikas.service.method} e
+ * {@code kodikas.repository.method}), com as tags {@code class}, {@code method} e {@code outcome}.
+ * Nos repositórios Spring Data só entram os métodos declarados nas interfaces do projeto; os herdados
+ * de {@code JpaRepository} (como {@code findById}) são declarados fora do pacote. Os histogramas de
+ * percentis são habilitados no application.properties.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+    static final String CONTROLLER_TIMER = "kodikas.controller.method";
+    static final String SERVICE_TIMER = "kodikas.service.method";
+    static final String REPOSITORY_TIMER = "kodikas.repository.method";
+
+    private final MeterRegistry meterRegistry;
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.kodikas.backend.controller..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(CONTROLLER_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.kodikas.backend.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint);
+    }
+
+    @Around("execution(public * com.kodikas.backend.repository..*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, joinPoint);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricsOutcome.OK;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> response) {
+                outcome = MetricsOutcome.fromStatus(response.getStatusCode().value());
+            }
+            return result;
+        } catch (Throwable ex) {
+            outcome = MetricsOutcome.fromException(ex);
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag(MetricsOutcome.TAG, outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.kodikas.backend.metrics;
+
+import com.kodikas.backend.exception.CompanyNotFoundException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Valores da tag {@code outcome} usada nos timers da aplicação.
+ * <p>
+ * O {@link com.kodikas.backend.exception.GlobalExceptionHandler} marca a requisição com o resultado
+ * do handler que a tratou; quando nenhum handler foi acionado, o resultado é derivado do status HTTP.
+ */
+public final class MetricsOutcome {
+    public static final String TAG = "outcome";
+    public static final String OK = "ok";
+    public static final String NOT_FOUND = "not-found";
+    public static final String ERROR = "error";
+
+    static final String REQUEST_ATTRIBUTE = MetricsOutcome.class.getName();
+
+    private MetricsOutcome() {
+    }
+
+    /**
+     * Registra o resultado de uma requisição, para ser lido pela convenção de observação HTTP.
+     *
+     * @param request Requisição atual.
+     * @param outcome Resultado ({@link #OK}, {@link #NOT_FOUND} ou {@link #ERROR}).
+     */
+    public static void mark(HttpServletRequest request, String outcome) {
+        request.setAttribute(REQUEST_ATTRIBUTE, outcome);
+    }
+
+    /**
+     * Obtém o resultado registrado na requisição ou, na falta dele, o derivado do status HTTP.
+     *
+     * @param request Requisição atual (pode ser null).
+     * @param status  Status HTTP da resposta.
+     * @return Resultado da requisição.
+     */
+    static String resolve(HttpServletRequest request, int status) {
+        Object marked = request != null ? request.getAttribute(REQUEST_ATTRIBUTE) : null;
+        return marked instanceof String outcome ? outcome : fromStatus(status);
+    }
+
+    static String fromStatus(int status) {
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return NOT_FOUND;
+        }
+        return status < 400 ? OK : ERROR;
+    }
+
+    static String fromException(Throwable ex) {
+        if (ex instanceof EntityNotFoundException
+                || ex instanceof UserNotFoundException
+                || ex instanceof CompanyNotFoundException) {
+            return NOT_FOUND;
+        }
+        return ERROR;
+    }
+}
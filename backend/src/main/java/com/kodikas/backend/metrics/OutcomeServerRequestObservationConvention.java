@@ -0,0 +1,20 @@
+package com.kodikas.backend.metrics;
+
+import io.micrometer.common.KeyValue;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Substitui a tag {@code outcome} do timer {@code http.server.requests} pelos valores
+ * {@code ok}, {@code not-found} e {@code error} definidos em {@link MetricsOutcome}.
+ */
+@Component
+public class OutcomeServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    protected KeyValue outcome(ServerRequestObservationContext context) {
+        int status = context.getResponse() != null ? context.getResponse().getStatus() : 500;
+        return KeyValue.of(MetricsOutcome.TAG, MetricsOutcome.resolve(context.getCarrier(), status));
+    }
+}
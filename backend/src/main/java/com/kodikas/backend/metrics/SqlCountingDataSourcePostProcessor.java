@@ -0,0 +1,29 @@
+package com.kodikas.backend.metrics;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource da aplicação com o datasource-proxy para que os comandos SQL sejam
+ * contados pelo {@link SqlCountingListener}. Desligado com {@code kodikas.sql.counting.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "kodikas.sql.counting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlCountingListener())
+                    .build();
+        }
+        return bean;
+    }
+}
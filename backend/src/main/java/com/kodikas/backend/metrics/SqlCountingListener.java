@@ -0,0 +1,25 @@
+package com.kodikas.backend.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Repassa cada execução JDBC ao {@link SqlStatementCounter}. Um lote (batch) conta como
+ * um único comando, pois é uma única ida ao banco.
+ */
+class SqlCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!queryInfoList.isEmpty()) {
+            SqlStatementCounter.record(queryInfoList.get(0).getQuery(), execInfo.getElapsedTime());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kodikas.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conta os comandos SQL de cada requisição HTTP e registra as métricas {@code kodikas.sql.statements}
+ * e {@code kodikas.sql.time} por rota. Requisições acima de {@code kodikas.sql.statement-budget}
+ * geram um único aviso no log, com os formatos de comando repetidos.
+ * <p>
+ * A contagem acompanha a thread da requisição, então respostas assíncronas (a exportação NDJSON e o
+ * stream SSE) não são medidas: os comandos rodam depois, em outra thread. Essas requisições não
+ * registram métricas, em vez de registrarem zero comandos.
+ */
+@Component
+@ConditionalOnProperty(name = "kodikas.sql.counting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${kodikas.sql.statement-budget:20}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end(stats);
+            if (!request.isAsyncStarted()) {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("kodikas.sql.statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("kodikas.sql.time")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getTotalTimeMillis(), TimeUnit.MILLISECONDS);
+
+        if (stats.getStatementCount() > statementBudget) {
+            logger.warn("Requisição {} {} executou {} comandos SQL (limite {}) em {} ms. Comandos repetidos: {}",
+                    request.getMethod(), uri, stats.getStatementCount(), statementBudget,
+                    stats.getTotalTimeMillis(), stats.getRepeatedShapes());
+        }
+    }
+}
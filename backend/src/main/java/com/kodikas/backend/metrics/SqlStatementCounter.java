@@ -0,0 +1,56 @@
+package com.kodikas.backend.metrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * Contagem de comandos SQL por thread. Um escopo é aberto com {@link #begin()} e fechado com
+ * {@link #end(SqlStatementStats)}; os comandos executados pela thread entre as duas chamadas são
+ * registrados pelo {@link SqlCountingListener}. Escopos podem ser aninhados (ex.: um teste em volta
+ * de uma requisição), e cada comando conta em todos os escopos abertos.
+ */
+public final class SqlStatementCounter {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end(SqlStatementStats stats) {
+        if (stats.getParent() != null) {
+            CURRENT.set(stats.getParent());
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    static void record(String sql, long elapsedMillis) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.record(normalize(sql), elapsedMillis);
+        }
+    }
+
+    /**
+     * Reduz um comando ao seu formato, trocando literais e listas de parâmetros por {@code ?},
+     * para que execuções que diferem apenas nos valores sejam agrupadas.
+     *
+     * @param sql Comando SQL.
+     * @return Formato normalizado do comando.
+     */
+    static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return PARAMETER_LIST.matcher(shape).replaceAll("?...");
+    }
+}
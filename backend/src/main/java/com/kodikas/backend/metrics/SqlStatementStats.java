@@ -0,0 +1,61 @@
+package com.kodikas.backend.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Comandos SQL executados dentro de um escopo do {@link SqlStatementCounter}
+ * (normalmente uma requisição HTTP): quantidade, tempo total de JDBC e quantas vezes
+ * cada formato de comando se repetiu.
+ */
+public class SqlStatementStats {
+    private final SqlStatementStats parent;
+    private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+    private int statementCount;
+    private long totalTimeMillis;
+
+    SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    SqlStatementStats getParent() {
+        return parent;
+    }
+
+    void record(String shape, long elapsedMillis) {
+        for (SqlStatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.statementCount++;
+            stats.totalTimeMillis += elapsedMillis;
+            stats.shapeCounts.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalTimeMillis() {
+        return totalTimeMillis;
+    }
+
+    /**
+     * @return Quantidade de execuções por formato de comando, na ordem da primeira execução.
+     */
+    public Map<String, Integer> getShapeCounts() {
+        return Collections.unmodifiableMap(shapeCounts);
+    }
+
+    /**
+     * @return Formatos executados mais de uma vez, típicos de N+1.
+     */
+    public Map<String, Integer> getRepeatedShapes() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapeCounts.forEach((shape, count) -> {
+            if (count > 1) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
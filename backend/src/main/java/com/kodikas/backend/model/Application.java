@@ -5,10 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "applications")
 @Getter
 @Setter
@@ -17,7 +19,8 @@ import java.time.LocalDateTime;
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_id_seq")
+    @SequenceGenerator(name = "applications_id_seq", sequenceName = "applications_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -26,6 +29,7 @@ public class Application {
     @Column(nullable = false, length = 500)
     private String description;
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 50)
     private ApplicationStatus status;
 
@@ -38,4 +42,8 @@ public class Application {
 
     @Column(nullable = false)
     private Boolean ativo = true;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
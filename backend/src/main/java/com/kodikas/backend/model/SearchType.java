@@ -0,0 +1,17 @@
+package com.kodikas.backend.model;
+
+public enum SearchType {
+    APPLICATION("applications"),
+    COMPANY("companies"),
+    PROJECT("projects");
+
+    private final String table;
+
+    SearchType(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+}
@@ -7,11 +7,13 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 @Getter
 @Setter
@@ -20,7 +22,8 @@ import java.util.List;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -49,6 +52,10 @@ public class User {
     @Column(nullable = false)
     private Boolean ativo = true;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public void updateFrom(DataUpdateUser dto, CompanyService companyService) {
         if (dto.name() != null) this.setName(dto.name());
         if (dto.email() != null) this.setEmail(dto.email());
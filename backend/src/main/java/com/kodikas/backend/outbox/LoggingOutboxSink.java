@@ -0,0 +1,24 @@
+package com.kodikas.backend.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publica os eventos no log. É o destino padrão.
+ */
+@Component
+@ConditionalOnProperty(name = "kodikas.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            logger.info("Evento {} {} {} (#{})", event.aggregateType(), event.aggregateId(), event.eventType(), event.id());
+        }
+    }
+}
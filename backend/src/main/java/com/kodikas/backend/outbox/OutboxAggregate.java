@@ -0,0 +1,8 @@
+package com.kodikas.backend.outbox;
+
+public enum OutboxAggregate {
+    USER,
+    PROJECT,
+    COMPANY,
+    APPLICATION
+}
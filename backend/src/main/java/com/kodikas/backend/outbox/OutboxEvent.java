@@ -0,0 +1,22 @@
+package com.kodikas.backend.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de alteração de uma entidade. Carrega apenas a identificação da entidade; quem consome
+ * busca o estado atual pela API, se precisar.
+ *
+ * @param id            Posição do evento no outbox, crescente na ordem de gravação.
+ * @param aggregateType Tipo da entidade alterada.
+ * @param aggregateId   ID da entidade alterada.
+ * @param eventType     Tipo da alteração.
+ * @param createdAt     Momento da gravação.
+ */
+public record OutboxEvent(
+        Long id,
+        OutboxAggregate aggregateType,
+        Long aggregateId,
+        OutboxEventType eventType,
+        LocalDateTime createdAt
+) {
+}
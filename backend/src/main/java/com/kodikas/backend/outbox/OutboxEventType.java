@@ -0,0 +1,7 @@
+package com.kodikas.backend.outbox;
+
+public enum OutboxEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,93 @@
+package com.kodikas.backend.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Publica os eventos pendentes do outbox em lotes, do mais antigo para o mais recente.
+ * <p>
+ * Cada ciclo roda em uma transação que segura um advisory lock do Postgres, então só uma instância
+ * da aplicação publica por vez e os eventos de uma mesma entidade saem na ordem em que foram gravados.
+ * Os eventos publicados são removidos na mesma transação; se o destino falhar, o lote permanece e é
+ * reenviado no próximo ciclo.
+ */
+@Component
+@ConditionalOnProperty(name = "kodikas.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // Chave arbitrária, fixa, do advisory lock do relay
+    private static final long RELAY_LOCK_KEY = 0x6b6f646f7574L;
+
+    private static final String SELECT_SQL = """
+            SELECT id, aggregate_type, aggregate_id, event_type, created_at
+            FROM outbox_events ORDER BY id LIMIT ?
+            """;
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final Counter publishedCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OutboxSink sink,
+                       MeterRegistry meterRegistry,
+                       @Value("${kodikas.outbox.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("kodikas.outbox.published").register(meterRegistry);
+        this.batchTimer = Timer.builder("kodikas.outbox.batch").register(meterRegistry);
+    }
+
+    /**
+     * Publica lotes até esvaziar o outbox ou até outra instância estar com o lock.
+     */
+    @Scheduled(fixedDelayString = "${kodikas.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            int published;
+            do {
+                published = batchTimer.record(() -> transactionTemplate.execute(status -> publishBatch()));
+            } while (published == batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Falha ao publicar eventos do outbox: {}", e.getMessage());
+        }
+    }
+
+    private int publishBatch() {
+        Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0;
+        }
+        List<OutboxEvent> events = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                OutboxAggregate.valueOf(rs.getString("aggregate_type")),
+                rs.getLong("aggregate_id"),
+                OutboxEventType.valueOf(rs.getString("event_type")),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        sink.publish(events);
+        jdbcTemplate.update(DELETE_SQL, (Object) events.stream().map(OutboxEvent::id).toArray(Long[]::new));
+        publishedCounter.increment(events.size());
+        return events.size();
+    }
+}
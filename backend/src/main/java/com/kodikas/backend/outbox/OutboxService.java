@@ -0,0 +1,69 @@
+package com.kodikas.backend.outbox;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Grava eventos de alteração no outbox, na mesma transação da escrita que os originou: o evento
+ * só existe se a escrita for confirmada. A publicação fica a cargo do {@link OutboxRelay}.
+ * <p>
+ * A escrita da entidade precisa chegar ao banco antes do registro ({@code saveAndFlush} ou UPDATE
+ * direto): o lock de linha tomado pelo UPDATE faz com que uma escrita concorrente na mesma entidade só
+ * obtenha o ID do seu evento depois do commit desta, e o relay publica na ordem dos IDs.
+ */
+@Service
+public class OutboxService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type)
+            VALUES (:aggregateType, :aggregateId, :eventType)
+            """;
+    private static final String INSERT_ALL_SQL = """
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type)
+            SELECT :aggregateType, id, :eventType FROM unnest(CAST(:ids AS BIGINT[])) WITH ORDINALITY AS t(id, n) ORDER BY n
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxService(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Registra a alteração de uma entidade.
+     *
+     * @param aggregateType Tipo da entidade.
+     * @param aggregateId   ID da entidade.
+     * @param eventType     Tipo da alteração.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxAggregate aggregateType, Long aggregateId, OutboxEventType eventType) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("aggregateType", aggregateType.name())
+                .addValue("aggregateId", aggregateId)
+                .addValue("eventType", eventType.name()));
+    }
+
+    /**
+     * Registra a mesma alteração para várias entidades com um único INSERT, na ordem informada.
+     *
+     * @param aggregateType Tipo das entidades.
+     * @param aggregateIds  IDs das entidades; nada é gravado se estiver vazio.
+     * @param eventType     Tipo da alteração.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(OutboxAggregate aggregateType, Collection<Long> aggregateIds, OutboxEventType eventType) {
+        if (aggregateIds == null || aggregateIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_ALL_SQL, new MapSqlParameterSource()
+                .addValue("aggregateType", aggregateType.name())
+                .addValue("ids", aggregateIds.toArray(Long[]::new))
+                .addValue("eventType", eventType.name()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.kodikas.backend.outbox;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox. A implementação ativa é escolhida por {@code kodikas.outbox.sink}.
+ * <p>
+ * O lote é entregue em ordem crescente de ID. Se {@link #publish(List)} lançar uma exceção, nenhum
+ * evento do lote é removido e o lote inteiro é reenviado no próximo ciclo (entrega ao menos uma vez).
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,62 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.constants.ExportConstants;
+import com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO;
+import com.kodikas.backend.model.Application;
+import com.kodikas.backend.repository.projection.ApplicationStatusChange;
+import com.kodikas.backend.repository.projection.ApplicationStatusCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ApplicationRepositoy extends JpaRepository<Application, Long> {
+    @EntityGraph(attributePaths = {"user", "user.company"})
+    List<Application> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT a.id FROM Application a WHERE a.user.id IN :userIds AND a.ativo = true")
+    List<Long> findActiveIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query(value = "UPDATE applications SET ativo = false, version = version + 1 WHERE id = ANY(:ids) AND ativo RETURNING CAST(id AS BIGINT)", nativeQuery = true)
+    List<Long> deactivateByIds(@Param("ids") Long[] ids);
+
+    @Query(value = """
+            WITH o AS (SELECT id, status FROM applications WHERE id = ANY(:ids) AND ativo FOR UPDATE)
+            UPDATE applications a SET status = :status, version = a.version + 1
+            FROM o WHERE a.id = o.id
+            RETURNING CAST(a.id AS BIGINT) AS id, CAST(a.user_id AS BIGINT) AS userId, o.status AS previousStatus
+            """, nativeQuery = true)
+    List<ApplicationStatusChange> updateStatusByIds(@Param("ids") Long[] ids, @Param("status") String status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportConstants.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO(a.id, a.name, a.description, a.status, u.id, u.name) FROM Application a JOIN a.user u WHERE a.ativo = true ORDER BY a.id")
+    Stream<ResponseCreateApplicationDTO> streamAllActive();
+
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Application a WHERE a.user.id = :userId AND a.ativo = true GROUP BY a.status")
+    List<ApplicationStatusCount> countActiveByStatusForUser(@Param("userId") Long userId);
+
+    @Query("SELECT a.status AS status, COUNT(a) AS total FROM Application a JOIN a.user u WHERE u.company.id = :companyId AND a.ativo = true GROUP BY a.status")
+    List<ApplicationStatusCount> countActiveByStatusForCompany(@Param("companyId") Long companyId);
+
+    @Query(value = "SELECT CONCAT_WS('.', a.version, u.version) FROM applications a JOIN users u ON u.id = a.user_id WHERE a.id = :id", nativeQuery = true)
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    @Query(value = """
+            SELECT md5(string_agg(CONCAT_WS(':', a.id, a.version, u.version), ',' ORDER BY a.id))
+            FROM (SELECT id, version, user_id FROM applications WHERE ativo AND id > :afterId ORDER BY id LIMIT :limit) a
+            JOIN users u ON u.id = a.user_id
+            """, nativeQuery = true)
+    String findPageVersionHash(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,56 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.repository.projection.CompanyMemberId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CompanyRepository extends JpaRepository<Company, Long> {
+    List<Company> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query(value = """
+            SELECT u.company_id AS "companyId", 'USER' AS "kind", u.id AS "memberId"
+            FROM users u
+            WHERE u.company_id IN (:companyIds)
+            UNION ALL
+            SELECT p.company_id AS "companyId", 'PROJECT' AS "kind", p.id AS "memberId"
+            FROM projects p
+            WHERE p.company_id IN (:companyIds)
+            ORDER BY "memberId"
+            """, nativeQuery = true)
+    List<CompanyMemberId> findMemberIdsByCompanyIds(@Param("companyIds") Collection<Long> companyIds);
+
+    // A resposta inclui os IDs dos usuários e projetos vinculados, então eles entram no ETag junto com a versão
+    @Query(value = """
+            SELECT CONCAT_WS('.', c.version, md5(CONCAT(u.ids, '|', p.ids)))
+            FROM companies c
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM users WHERE company_id = c.id) u ON true
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM projects WHERE company_id = c.id) p ON true
+            WHERE c.id = :id
+            """, nativeQuery = true)
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    // Mesmo ETag de findVersionTagById, lido com a linha da empresa (ativa) travada até o fim da transação
+    @Query(value = """
+            WITH c AS (SELECT id, version FROM companies WHERE id = :id AND ativo FOR UPDATE)
+            SELECT CONCAT_WS('.', c.version, md5(CONCAT(u.ids, '|', p.ids)))
+            FROM c
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM users WHERE company_id = c.id) u ON true
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM projects WHERE company_id = c.id) p ON true
+            """, nativeQuery = true)
+    Optional<String> lockVersionTagById(@Param("id") Long id);
+
+    @Query(value = """
+            SELECT md5(string_agg(CONCAT_WS(':', c.id, c.version, md5(CONCAT(u.ids, '|', p.ids))), ',' ORDER BY c.id))
+            FROM (SELECT id, version FROM companies WHERE ativo AND id > :afterId ORDER BY id LIMIT :limit) c
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM users WHERE company_id = c.id) u ON true
+            LEFT JOIN LATERAL (SELECT string_agg(CAST(id AS TEXT), ',' ORDER BY id) AS ids FROM projects WHERE company_id = c.id) p ON true
+            """, nativeQuery = true)
+    String findPageVersionHash(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
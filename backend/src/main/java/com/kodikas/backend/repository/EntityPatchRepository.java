@@ -0,0 +1,153 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateApplication;
+import com.kodikas.backend.dto.companiesDTO.DataUpdateCompany;
+import com.kodikas.backend.dto.projectsDTO.DataUpdateProject;
+import com.kodikas.backend.dto.userDTO.DataUpdateUser;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Atualizações parciais (PATCH) executadas como um único {@code UPDATE} dinâmico, sem SELECT prévio.
+ * <p>
+ * Apenas as colunas informadas entram no {@code SET}, a versão é incrementada no mesmo comando e,
+ * quando o cliente envia {@code If-Match}, as versões aceitas entram no {@code WHERE}. O comando devolve
+ * o ETag atualizado do recurso e o valor anterior da coluna relevante (lido por um CTE com
+ * {@code FOR UPDATE} no mesmo comando): a empresa, para usuários e projetos, usada para invalidar o
+ * cache da empresa; e o status, para aplicações, usado no histórico de status.
+ * <p>
+ * Registros excluídos logicamente não são alterados, e o campo {@code ativo} é ignorado como no PUT:
+ * exclusão passa pelas regras dos endpoints de exclusão, e não há reativação pela API.
+ */
+@Repository
+public class EntityPatchRepository {
+
+    /**
+     * Resultado de uma atualização parcial.
+     *
+     * @param versionTag        Versões que compõem o ETag do recurso após a atualização.
+     * @param previousCompanyId Empresa vinculada antes da atualização (apenas usuários e projetos).
+     * @param previousStatus    Status antes da atualização (apenas aplicações).
+     * @param userId            Usuário dono da aplicação após a atualização (apenas aplicações).
+     */
+    public record PatchResult(String versionTag, Long previousCompanyId, String previousStatus, Long userId) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public EntityPatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<PatchResult> patchUser(Long id, DataUpdateUser dto, Set<Long> expectedVersions) {
+        Assignments set = new Assignments();
+        set.add("name", dto.name());
+        set.add("email", dto.email());
+        set.add("company_id", dto.companyId());
+        return execute("users", id, expectedVersions, set, "company_id",
+                "CAST(t.version AS TEXT)");
+    }
+
+    public Optional<PatchResult> patchProject(Long id, DataUpdateProject dto, Set<Long> expectedVersions) {
+        Assignments set = new Assignments();
+        set.add("name", dto.name());
+        set.add("description", dto.description());
+        set.add("user_id", dto.userId());
+        set.add("company_id", dto.companyId());
+        return execute("projects", id, expectedVersions, set, "company_id",
+                "CONCAT_WS('.', t.version, (SELECT u.version FROM users u WHERE u.id = t.user_id), "
+                        + "(SELECT c.version FROM companies c WHERE c.id = t.company_id))");
+    }
+
+    public Optional<PatchResult> patchCompany(Long id, DataUpdateCompany dto) {
+        Assignments set = new Assignments();
+        set.add("name", dto.name());
+        set.add("description", dto.description());
+        // O If-Match da empresa compara o ETag inteiro (versão e vínculos) e é verificado antes, pelo serviço
+        return execute("companies", id, Set.of(), set, null,
+                "CONCAT_WS('.', t.version, md5(CONCAT("
+                        + "(SELECT string_agg(CAST(u.id AS TEXT), ',' ORDER BY u.id) FROM users u WHERE u.company_id = t.id), '|', "
+                        + "(SELECT string_agg(CAST(p.id AS TEXT), ',' ORDER BY p.id) FROM projects p WHERE p.company_id = t.id))))");
+    }
+
+    public Optional<PatchResult> patchApplication(Long id, DataUpdateApplication dto, Set<Long> expectedVersions) {
+        Assignments set = new Assignments();
+        set.add("name", dto.name());
+        set.add("description", dto.description());
+        set.add("status", dto.status() != null ? dto.status().name() : null);
+        set.add("user_id", dto.userId());
+        return execute("applications", id, expectedVersions, set, "status",
+                "CONCAT_WS('.', t.version, (SELECT u.version FROM users u WHERE u.id = t.user_id))");
+    }
+
+    /**
+     * Verifica se o registro existe e está ativo, usado apenas quando o PATCH não atualizou nenhuma linha,
+     * para diferenciar "não encontrado" de "versão divergente".
+     *
+     * @param table Tabela do recurso.
+     * @param id    ID do recurso.
+     * @return true se o registro existir e estiver ativo.
+     */
+    public boolean exists(String table, Long id) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT 1 FROM " + table + " WHERE id = :id AND ativo", new MapSqlParameterSource("id", id), Integer.class);
+        return !rows.isEmpty();
+    }
+
+    private Optional<PatchResult> execute(String table, Long id, Set<Long> expectedVersions, Assignments set,
+                                          String previousColumn, String versionTag) {
+        if (set.columns.isEmpty()) {
+            throw new IllegalArgumentException("Nenhum campo informado para atualização.");
+        }
+        MapSqlParameterSource params = set.params.addValue("id", id);
+
+        StringBuilder sql = new StringBuilder();
+        if (previousColumn != null) {
+            sql.append("WITH o AS (SELECT id, ").append(previousColumn).append(" FROM ").append(table)
+                    .append(" WHERE id = :id AND ativo FOR UPDATE) ");
+        }
+        sql.append("UPDATE ").append(table).append(" t SET ");
+        for (String column : set.columns) {
+            sql.append(column).append(" = :").append(column).append(", ");
+        }
+        sql.append("version = t.version + 1");
+        sql.append(previousColumn != null ? " FROM o WHERE t.id = o.id" : " WHERE t.id = :id AND t.ativo");
+        if (expectedVersions != null && !expectedVersions.isEmpty()) {
+            sql.append(" AND t.version IN (:expectedVersions)");
+            params.addValue("expectedVersions", expectedVersions);
+        }
+        boolean previousStatus = "status".equals(previousColumn);
+        sql.append(" RETURNING ").append(versionTag).append(" AS version_tag, ")
+                .append("company_id".equals(previousColumn) ? "CAST(o.company_id AS BIGINT)" : "CAST(NULL AS BIGINT)")
+                .append(" AS previous_company_id, ")
+                .append(previousStatus ? "o.status" : "CAST(NULL AS TEXT)")
+                .append(" AS previous_status, ")
+                .append(previousStatus ? "CAST(t.user_id AS BIGINT)" : "CAST(NULL AS BIGINT)")
+                .append(" AS user_id");
+
+        List<PatchResult> results = jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new PatchResult(
+                rs.getString("version_tag"),
+                rs.getObject("previous_company_id", Long.class),
+                rs.getString("previous_status"),
+                rs.getObject("user_id", Long.class)));
+        return results.stream().findFirst();
+    }
+
+    private static final class Assignments {
+        private final List<String> columns = new ArrayList<>();
+        private final MapSqlParameterSource params = new MapSqlParameterSource();
+
+        private void add(String column, Object value) {
+            if (value != null) {
+                columns.add(column);
+                params.addValue(column, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.constants.ExportConstants;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.model.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @EntityGraph(attributePaths = {"user", "user.company", "company"})
+    List<Project> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Project p WHERE p.user.id IN :userIds AND p.ativo = true")
+    List<Long> findActiveIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT p.id FROM Project p WHERE p.company.id = :companyId AND p.ativo = true")
+    List<Long> findActiveIdsByCompanyId(@Param("companyId") Long companyId);
+
+    @Query(value = """
+            WITH o AS (SELECT id, company_id FROM projects WHERE id = ANY(:ids) AND company_id IS DISTINCT FROM :companyId FOR UPDATE)
+            UPDATE projects t SET company_id = :companyId, version = t.version + 1
+            FROM o WHERE t.id = o.id
+            RETURNING CAST(o.company_id AS BIGINT)
+            """, nativeQuery = true)
+    List<Long> assignCompany(@Param("companyId") Long companyId, @Param("ids") Long[] ids);
+
+    @Query(value = "UPDATE projects SET ativo = false, version = version + 1 WHERE id = ANY(:ids) AND ativo RETURNING CAST(id AS BIGINT)", nativeQuery = true)
+    List<Long> deactivateByIds(@Param("ids") Long[] ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportConstants.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kodikas.backend.dto.projectsDTO.ResponseListProject(p.id, p.name, p.description, p.ativo, u.id, u.name, c.id, c.name) FROM Project p JOIN p.user u LEFT JOIN p.company c WHERE p.ativo = true ORDER BY p.id")
+    Stream<ResponseListProject> streamAllActive();
+
+    @Query(value = "SELECT CONCAT_WS('.', p.version, u.version, c.version) FROM projects p JOIN users u ON u.id = p.user_id LEFT JOIN companies c ON c.id = p.company_id WHERE p.id = :id", nativeQuery = true)
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    @Query(value = """
+            SELECT md5(string_agg(CONCAT_WS(':', p.id, p.version, u.version, c.version), ',' ORDER BY p.id))
+            FROM (SELECT id, version, user_id, company_id FROM projects WHERE ativo AND id > :afterId ORDER BY id LIMIT :limit) p
+            JOIN users u ON u.id = p.user_id
+            LEFT JOIN companies c ON c.id = p.company_id
+            """, nativeQuery = true)
+    String findPageVersionHash(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,96 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.dto.searchDTO.ResponseSearchResultDTO;
+import com.kodikas.backend.model.SearchType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Busca textual sobre as colunas {@code search_vector} (geradas pelo banco e indexadas com GIN)
+ * de aplicações, projetos e empresas.
+ * <p>
+ * Os resultados são ordenados por relevância ({@code ts_rank}) e desempatados pelo tipo e pelo ID,
+ * o que permite paginar por cursor sobre a tupla {@code (rank, type, id)}.
+ * <p>
+ * O {@code ts_rank} é calculado por linha e não tem índice, então a ordenação não vem pronta do GIN,
+ * que só localiza as linhas que casam com a busca. Para não ordenar a união inteira, cada tipo aplica o
+ * corte do cursor e devolve apenas os {@code limit} melhores (top-N em memória limitada); a página final
+ * sai da união desses candidatos, no máximo {@code limit} por tipo.
+ */
+@Repository
+public class SearchRepository {
+
+    /**
+     * Posição do último resultado entregue ao cliente.
+     *
+     * @param rank Relevância do resultado.
+     * @param type Tipo do resultado.
+     * @param id   ID do resultado.
+     */
+    public record SearchCursor(float rank, SearchType type, Long id) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public SearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param query      Termos da busca, na sintaxe de {@code websearch_to_tsquery}.
+     * @param types      Tipos de entidade a buscar.
+     * @param activeOnly Se true, ignora registros inativos.
+     * @param after      Último resultado da página anterior ou null para a primeira página.
+     * @param limit      Quantidade máxima de linhas.
+     * @return Resultados ordenados por relevância.
+     */
+    public List<ResponseSearchResultDTO> search(String query, Set<SearchType> types, boolean activeOnly,
+                                                SearchCursor after, int limit) {
+        String branches = types.stream()
+                .sorted()
+                .map(type -> branch(type, activeOnly, after != null))
+                .collect(Collectors.joining(" UNION ALL "));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder()
+                .append("WITH q AS (SELECT websearch_to_tsquery('portuguese', :query) AS query) ")
+                .append("SELECT r.type, r.id, r.name, r.description, r.ativo, r.rank FROM (")
+                .append(branches)
+                .append(") r ORDER BY r.rank DESC, r.type, r.id LIMIT :limit");
+        if (after != null) {
+            params.addValue("rank", after.rank())
+                    .addValue("type", after.type().name())
+                    .addValue("id", after.id());
+        }
+
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new ResponseSearchResultDTO(
+                SearchType.valueOf(rs.getString("type")),
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBoolean("ativo"),
+                rs.getFloat("rank")
+        ));
+    }
+
+    private static String branch(SearchType type, boolean activeOnly, boolean afterCursor) {
+        return "(SELECT b.* FROM ("
+                + "SELECT CAST('" + type.name() + "' AS TEXT) AS type, CAST(e.id AS BIGINT) AS id, e.name, e.description, e.ativo, "
+                + "ts_rank(e.search_vector, q.query) AS rank "
+                + "FROM " + type.getTable() + " e, q "
+                + "WHERE e.search_vector @@ q.query" + (activeOnly ? " AND e.ativo" : "")
+                + ") b"
+                + (afterCursor
+                ? " WHERE b.rank < CAST(:rank AS REAL) OR (b.rank = CAST(:rank AS REAL) AND (b.type, b.id) > (:type, :id))"
+                : "")
+                + " ORDER BY b.rank DESC, b.id LIMIT :limit)";
+    }
+}
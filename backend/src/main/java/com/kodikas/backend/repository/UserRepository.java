@@ -0,0 +1,53 @@
+package com.kodikas.backend.repository;
+
+import com.kodikas.backend.constants.ExportConstants;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+    @EntityGraph(attributePaths = {"company"})
+    List<User> findByAtivoTrueAndIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+            WITH o AS (SELECT id, company_id FROM users WHERE id = ANY(:ids) AND company_id IS DISTINCT FROM :companyId FOR UPDATE)
+            UPDATE users t SET company_id = :companyId, version = t.version + 1
+            FROM o WHERE t.id = o.id
+            RETURNING CAST(o.company_id AS BIGINT)
+            """, nativeQuery = true)
+    List<Long> assignCompany(@Param("companyId") Long companyId, @Param("ids") Long[] ids);
+
+    @Query(value = "UPDATE users SET ativo = false, version = version + 1 WHERE id = ANY(:ids) AND ativo RETURNING CAST(id AS BIGINT)", nativeQuery = true)
+    List<Long> deactivateByIds(@Param("ids") Long[] ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportConstants.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kodikas.backend.dto.userDTO.ResponseListUsers(u.id, u.name, u.email, u.ativo, c.id) FROM User u LEFT JOIN u.company c WHERE u.ativo = true ORDER BY u.id")
+    Stream<ResponseListUsers> streamAllActive();
+
+    @Query(value = "SELECT CAST(u.version AS TEXT) FROM users u WHERE u.id = :id", nativeQuery = true)
+    Optional<String> findVersionTagById(@Param("id") Long id);
+
+    @Query(value = """
+            SELECT md5(string_agg(CONCAT_WS(':', u.id, u.version), ',' ORDER BY u.id))
+            FROM (SELECT id, version FROM users WHERE ativo AND id > :afterId ORDER BY id LIMIT :limit) u
+            """, nativeQuery = true)
+    String findPageVersionHash(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package com.kodikas.backend.repository.projection;
+
+/**
+ * Projeção com o status anterior de uma aplicação alterada em lote.
+ */
+public interface ApplicationStatusChange {
+    Long getId();
+
+    Long getUserId();
+
+    String getPreviousStatus();
+}
@@ -0,0 +1,12 @@
+package com.kodikas.backend.repository.projection;
+
+import com.kodikas.backend.model.ApplicationStatus;
+
+/**
+ * Projeção com a quantidade de aplicações ativas em um status.
+ */
+public interface ApplicationStatusCount {
+    ApplicationStatus getStatus();
+
+    Long getTotal();
+}
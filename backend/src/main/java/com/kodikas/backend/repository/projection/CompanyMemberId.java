@@ -0,0 +1,15 @@
+package com.kodikas.backend.repository.projection;
+
+/**
+ * Projeção com o ID de um usuário ou projeto vinculado a uma empresa.
+ */
+public interface CompanyMemberId {
+    String USER = "USER";
+    String PROJECT = "PROJECT";
+
+    Long getCompanyId();
+
+    String getKind();
+
+    Long getMemberId();
+}
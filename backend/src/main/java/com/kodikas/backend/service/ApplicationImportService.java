@@ -0,0 +1,368 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.applicationsDTO.DataCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseImportErrorDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseImportStatusDTO;
+import com.kodikas.backend.model.ApplicationStatus;
+import com.kodikas.backend.repository.UserRepository;
+import com.kodikas.backend.util.BulkOperations;
+import com.kodikas.backend.util.CsvReader;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serviço responsável pela importação em massa de aplicações a partir de arquivos CSV.
+ * O arquivo é lido em streaming, validado com as mesmas regras de {@link DataCreateApplicationDTO}
+ * e carregado com {@code COPY} em uma tabela de staging, seguida de um único INSERT ... SELECT
+ * em {@code applications}. O progresso e os erros por linha podem ser consultados durante a execução.
+ */
+@Service
+public class ApplicationImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationImportService.class);
+
+    private static final List<String> COLUMNS = List.of("name", "description", "status", "userId");
+    private static final int CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private static final String COPY_SQL = "COPY applications_import_staging "
+            + "(import_id, line_number, name, description, status, user_id) FROM STDIN WITH (FORMAT csv)";
+    // Os IDs são reservados em blocos de 50 (um nextval por bloco, como o otimizador pooled do
+    // Hibernate com allocationSize = 50); o default da coluna gastaria um bloco inteiro por linha.
+    // Grava o evento de criação no outbox no mesmo comando (ver OutboxService)
+    private static final String MERGE_SQL = """
+            WITH numbered AS (
+                SELECT s.line_number, s.name, s.description, s.status, s.user_id,
+                       row_number() OVER (ORDER BY s.line_number) - 1 AS position
+                FROM applications_import_staging s
+                JOIN users u ON u.id = s.user_id
+                WHERE s.import_id = ?
+            ),
+            blocks AS (
+                SELECT block, nextval('applications_id_seq') AS hi
+                FROM (SELECT DISTINCT position / 50 AS block FROM numbered ORDER BY block) b
+            ),
+            inserted AS (
+                INSERT INTO applications (id, name, description, status, applied_at, user_id, ativo)
+                SELECT b.hi - 49 + n.position % 50, n.name, n.description, n.status, now(), n.user_id, true
+                FROM numbered n
+                JOIN blocks b ON b.block = n.position / 50
+                ORDER BY n.line_number
+                RETURNING id
+            )
+            INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type)
+            SELECT 'APPLICATION', id, 'CREATED' FROM inserted ORDER BY id
+            """;
+    private static final String CLEANUP_SQL = "DELETE FROM applications_import_staging WHERE import_id = ?";
+
+    private final DataSource dataSource;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ApplicationImportService(DataSource dataSource, UserRepository userRepository, Validator validator,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                    AsyncTaskExecutor taskExecutor) {
+        this.dataSource = dataSource;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Recebe o arquivo CSV e inicia a importação em segundo plano.
+     * O arquivo deve ter o cabeçalho {@code name,description,status,userId}.
+     *
+     * @param file Arquivo CSV enviado via multipart.
+     * @return Situação inicial da importação, com o ID para acompanhamento.
+     * @throws IllegalArgumentException se o arquivo estiver vazio.
+     * @throws IOException              se não for possível salvar o arquivo temporário.
+     */
+    public ResponseImportStatusDTO startImport(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("O arquivo CSV não pode estar vazio.");
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID());
+        Path tempFile = Files.createTempFile("applications-import-" + job.id, ".csv");
+        file.transferTo(tempFile);
+
+        pruneFinishedJobs();
+        jobs.put(job.id, job);
+        taskExecutor.execute(() -> run(job, tempFile));
+
+        logger.info("Importação de aplicações iniciada com ID: {}", job.id);
+        return job.toResponse();
+    }
+
+    /**
+     * Obtém o progresso e os erros de uma importação.
+     *
+     * @param importId ID da importação.
+     * @return Situação atual da importação.
+     * @throws EntityNotFoundException se a importação não for encontrada.
+     */
+    public ResponseImportStatusDTO getImportStatus(UUID importId) {
+        ImportJob job = jobs.get(importId);
+        if (job == null) {
+            throw new EntityNotFoundException("Importação não encontrada com o ID: " + importId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job, Path file) {
+        try (Connection connection = dataSource.getConnection();
+             CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                stage(job, reader, copyManager);
+                job.linesImported.set(merge(connection, job.id));
+                job.finish(ImportJob.COMPLETED, null);
+            } finally {
+                cleanup(connection, job.id);
+            }
+            logger.info("Importação {} concluída. Importadas: {}, rejeitadas: {}",
+                    job.id, job.linesImported.get(), job.linesRejected.get());
+        } catch (Exception e) {
+            logger.error("Erro na importação {}: {}", job.id, e.getMessage(), e);
+            job.finish(ImportJob.FAILED, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Não foi possível remover o arquivo temporário {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void stage(ImportJob job, CsvReader reader, CopyManager copyManager) throws IOException, SQLException {
+        Map<String, Integer> header = readHeader(reader);
+        List<StagedLine> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            job.linesRead.incrementAndGet();
+            StagedLine line = parseLine(job, reader.getRecordLine(), record, header);
+            if (line != null) {
+                chunk.add(line);
+            }
+            if (chunk.size() >= CHUNK_SIZE) {
+                copyChunk(job, chunk, copyManager);
+                chunk.clear();
+            }
+        }
+        copyChunk(job, chunk, copyManager);
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader) throws IOException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("O arquivo CSV está vazio.");
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim(), i);
+        }
+        List<String> missing = COLUMNS.stream().filter(column -> !positions.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: " + missing);
+        }
+        return positions;
+    }
+
+    private StagedLine parseLine(ImportJob job, long lineNumber, List<String> record, Map<String, Integer> header) {
+        String status = field(record, header, "status");
+        String userId = field(record, header, "userId");
+
+        ApplicationStatus parsedStatus = null;
+        Long parsedUserId = null;
+        List<String> errors = new ArrayList<>();
+        if (status != null) {
+            try {
+                parsedStatus = ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                errors.add("Status inválido: " + status);
+            }
+        }
+        if (userId != null) {
+            try {
+                parsedUserId = Long.valueOf(userId.trim());
+            } catch (NumberFormatException e) {
+                errors.add("ID do usuário inválido: " + userId);
+            }
+        }
+
+        DataCreateApplicationDTO dto = new DataCreateApplicationDTO(
+                field(record, header, "name"), field(record, header, "description"), parsedStatus, parsedUserId);
+        if (errors.isEmpty()) {
+            String violations = BulkOperations.validate(validator, dto);
+            if (violations != null) {
+                errors.add(violations);
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            job.reject(lineNumber, String.join(", ", errors));
+            return null;
+        }
+        return new StagedLine(lineNumber, dto);
+    }
+
+    private String field(List<String> record, Map<String, Integer> header, String column) {
+        int position = header.get(column);
+        if (position >= record.size() || record.get(position).isEmpty()) {
+            return null;
+        }
+        return record.get(position);
+    }
+
+    private void copyChunk(ImportJob job, List<StagedLine> chunk, CopyManager copyManager) throws IOException, SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        chunk.forEach(line -> userIds.add(line.dto().userId()));
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findIdsByIdIn(userIds));
+
+        StringBuilder csv = new StringBuilder(chunk.size() * 128);
+        long staged = 0;
+        for (StagedLine line : chunk) {
+            DataCreateApplicationDTO dto = line.dto();
+            if (!existingUserIds.contains(dto.userId())) {
+                job.reject(line.lineNumber(), "Usuário não encontrado com o ID: " + dto.userId());
+                continue;
+            }
+            csv.append(job.id).append(',')
+                    .append(line.lineNumber()).append(',')
+                    .append(quote(dto.name())).append(',')
+                    .append(quote(dto.description())).append(',')
+                    .append(dto.status().name()).append(',')
+                    .append(dto.userId()).append('\n');
+            staged++;
+        }
+
+        if (staged > 0) {
+            copyManager.copyIn(COPY_SQL, new StringReader(csv.toString()));
+            job.linesStaged.addAndGet(staged);
+        }
+    }
+
+    private long merge(Connection connection, UUID importId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(MERGE_SQL)) {
+            statement.setObject(1, importId);
+            return statement.executeLargeUpdate();
+        }
+    }
+
+    private void cleanup(Connection connection, UUID importId) {
+        try (PreparedStatement statement = connection.prepareStatement(CLEANUP_SQL)) {
+            statement.setObject(1, importId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            logger.warn("Não foi possível limpar o staging da importação {}: {}", importId, e.getMessage());
+        }
+    }
+
+    private String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void pruneFinishedJobs() {
+        if (jobs.size() < MAX_RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .limit(jobs.size() - MAX_RETAINED_JOBS + 1L)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    private record StagedLine(long lineNumber, DataCreateApplicationDTO dto) {
+    }
+
+    /**
+     * Estado de uma importação em andamento ou concluída.
+     */
+    private static class ImportJob {
+        static final String RUNNING = "PROCESSANDO";
+        static final String COMPLETED = "CONCLUIDO";
+        static final String FAILED = "FALHOU";
+
+        final UUID id;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong linesRead = new AtomicLong();
+        final AtomicLong linesStaged = new AtomicLong();
+        final AtomicLong linesImported = new AtomicLong();
+        final AtomicLong linesRejected = new AtomicLong();
+        final List<ResponseImportErrorDTO> errors = Collections.synchronizedList(new ArrayList<>());
+        volatile String status = RUNNING;
+        volatile String message;
+        volatile LocalDateTime finishedAt;
+
+        ImportJob(UUID id) {
+            this.id = id;
+        }
+
+        void reject(long lineNumber, String error) {
+            linesRejected.incrementAndGet();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ResponseImportErrorDTO(lineNumber, error));
+            }
+        }
+
+        void finish(String status, String message) {
+            this.message = message;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        ResponseImportStatusDTO toResponse() {
+            List<ResponseImportErrorDTO> snapshot;
+            synchronized (errors) {
+                snapshot = List.copyOf(errors);
+            }
+            return new ResponseImportStatusDTO(
+                    id,
+                    status,
+                    linesRead.get(),
+                    linesStaged.get(),
+                    linesImported.get(),
+                    linesRejected.get(),
+                    startedAt.toString(),
+                    finishedAt != null ? finishedAt.toString() : null,
+                    message,
+                    snapshot
+            );
+        }
+    }
+}
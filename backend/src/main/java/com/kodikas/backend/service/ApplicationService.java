@@ -0,0 +1,494 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.constants.CacheNames;
+import com.kodikas.backend.dto.applicationsDTO.DataCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateApplication;
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateStatusApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseDetailByIdDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseStatusStatsDTO;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkItem;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkResult;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.event.ApplicationStatusChangedEvent;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.model.*;
+import com.kodikas.backend.outbox.OutboxAggregate;
+import com.kodikas.backend.outbox.OutboxEventType;
+import com.kodikas.backend.outbox.OutboxService;
+import com.kodikas.backend.repository.ApplicationRepositoy;
+import com.kodikas.backend.repository.EntityPatchRepository;
+import com.kodikas.backend.repository.EntityPatchRepository.PatchResult;
+import com.kodikas.backend.repository.projection.ApplicationStatusChange;
+import com.kodikas.backend.repository.projection.ApplicationStatusCount;
+import com.kodikas.backend.util.BulkOperations;
+import com.kodikas.backend.util.CursorPagination;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+/**
+ * Serviço responsável por gerenciar as operações relacionadas às aplicações.
+ */
+@Service
+public class ApplicationService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
+
+    @Autowired
+    private ApplicationRepositoy applicationRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private NdjsonExportService ndjsonExportService;
+
+    @Autowired
+    private EntityPatchRepository entityPatchRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    /**
+     * Obtém uma página de aplicações ativas, ordenadas pelo ID.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return Página de DTOs de aplicações ativas, com o ETag lido no mesmo snapshot.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseCursorPage<ResponseCreateApplicationDTO>> getAllActiveApplications(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        List<Application> rows = applicationRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(
+                CursorPagination.decodeCursor(after), Limit.of(pageSize + 1));
+
+        ResponseCursorPage<ResponseCreateApplicationDTO> page = CursorPagination.toPage(rows, pageSize, Application::getId, slice -> slice.stream()
+                .map(this::mapToResponse)
+                .toList());
+        return new Tagged<>(getApplicationsPageETag(after, limit), page);
+    }
+
+    /**
+     * Exporta todas as aplicações ativas em NDJSON, lendo do banco em streaming com cursor no servidor.
+     * O uso de memória independe do tamanho da tabela.
+     *
+     * @param out Stream de saída da resposta.
+     * @throws IOException se ocorrer erro de escrita.
+     */
+    @Transactional(readOnly = true)
+    public void exportActiveApplications(OutputStream out) throws IOException {
+        try (Stream<ResponseCreateApplicationDTO> rows = applicationRepository.streamAllActive()) {
+            long count = ndjsonExportService.write(rows, out);
+            logger.info("Exportação de aplicações concluída. Linhas: {}", count);
+        }
+    }
+
+    /**
+     * Calcula o ETag da aplicação a partir das versões que compõem a resposta, sem carregá-la.
+     *
+     * @param id ID da aplicação.
+     * @return ETag forte ou null se a aplicação não existir.
+     */
+    @Transactional(readOnly = true)
+    public String getApplicationETag(Long id) {
+        return applicationRepository.findVersionTagById(id).map(ETags::strong).orElse(null);
+    }
+
+    /**
+     * Calcula o ETag de uma página de aplicações ativas a partir das versões das linhas da página,
+     * sem carregar as entidades nem serializar a resposta.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return ETag forte da página.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public String getApplicationsPageETag(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        return ETags.forPage(applicationRepository.findPageVersionHash(CursorPagination.decodeCursor(after), pageSize + 1));
+    }
+
+    /**
+     * Obtém os detalhes de uma aplicação pelo ID.
+     *
+     * @param id ID da aplicação.
+     * @return DTO com os detalhes da aplicação, com o ETag lido no mesmo snapshot.
+     * @throws EntityNotFoundException se a aplicação não for encontrada.
+     */
+    @Cacheable(cacheNames = CacheNames.APPLICATIONS, key = "#id")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseDetailByIdDTO> getApplicationById(Long id) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Aplicação não encontrada com o ID: " + id));
+
+        logger.info("Aplicação encontrada com ID: {}", id);
+        return new Tagged<>(getApplicationETag(id), mapToDetailResponse(application));
+    }
+
+    /**
+     * Conta as aplicações ativas de um usuário por status, agregando no banco.
+     *
+     * @param userId ID do usuário.
+     * @return Total e quantidade por status (status sem aplicações aparecem com zero).
+     * @throws UserNotFoundException se o usuário não tiver aplicações e não existir.
+     */
+    @Transactional(readOnly = true)
+    public ResponseStatusStatsDTO getStatusStatsByUser(Long userId) {
+        List<ApplicationStatusCount> counts = applicationRepository.countActiveByStatusForUser(userId);
+        if (counts.isEmpty()) {
+            userService.getUserById(userId);
+        }
+        return mapToStatusStats(userId, counts);
+    }
+
+    /**
+     * Conta as aplicações ativas dos usuários de uma empresa por status, agregando no banco.
+     *
+     * @param companyId ID da empresa.
+     * @return Total e quantidade por status (status sem aplicações aparecem com zero).
+     * @throws EntityNotFoundException se a empresa não tiver aplicações e não existir.
+     */
+    @Transactional(readOnly = true)
+    public ResponseStatusStatsDTO getStatusStatsByCompany(Long companyId) {
+        List<ApplicationStatusCount> counts = applicationRepository.countActiveByStatusForCompany(companyId);
+        if (counts.isEmpty()) {
+            companyService.getCompany(companyId);
+        }
+        return mapToStatusStats(companyId, counts);
+    }
+
+    /**
+     * Cria uma nova aplicação.
+     *
+     * @param dto Dados para criação da aplicação.
+     * @return DTO com os detalhes da aplicação criada.
+     * @throws EntityNotFoundException se o usuário associado não for encontrado.
+     */
+    @Transactional
+    public ResponseCreateApplicationDTO createApplication(DataCreateApplicationDTO dto) {
+        Application newApplication = mapToEntityCreate(dto);
+        Application savedApplication = applicationRepository.save(newApplication);
+        outboxService.record(OutboxAggregate.APPLICATION, savedApplication.getId(), OutboxEventType.CREATED);
+
+        logger.info("Aplicação cadastrada com ID: {}", savedApplication.getId());
+        return mapToResponse(savedApplication);
+    }
+
+    /**
+     * Cria várias aplicações em uma única transação. Os itens são validados com as mesmas
+     * regras do cadastro individual e os usuários referenciados são buscados em uma única consulta.
+     * Itens inválidos não interrompem o lote e são reportados no resultado.
+     *
+     * @param dtos Dados para criação das aplicações.
+     * @return Resultado por item, na ordem da requisição.
+     * @throws IllegalArgumentException se o lote for vazio ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkResult<ResponseCreateApplicationDTO> createApplications(List<DataCreateApplicationDTO> dtos) {
+        BulkOperations.checkSize(dtos);
+
+        Map<Integer, String> errors = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            String violations = BulkOperations.validate(validator, dtos.get(i));
+            if (violations != null) {
+                errors.put(i, violations);
+            } else {
+                userIds.add(dtos.get(i).userId());
+            }
+        }
+
+        Map<Long, User> users = userService.getUsersByIds(userIds);
+        Map<Integer, Application> newApplications = new LinkedHashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            DataCreateApplicationDTO dto = dtos.get(i);
+            User user = users.get(dto.userId());
+            if (user == null) {
+                errors.put(i, "Usuário não encontrado com o ID: " + dto.userId());
+            } else {
+                newApplications.put(i, mapToEntityCreate(dto, user));
+            }
+        }
+
+        applicationRepository.saveAll(newApplications.values());
+        outboxService.recordAll(OutboxAggregate.APPLICATION,
+                newApplications.values().stream().map(Application::getId).toList(), OutboxEventType.CREATED);
+        logger.info("Lote de aplicações processado. Cadastradas: {}, com erro: {}", newApplications.size(), errors.size());
+
+        List<ResponseBulkItem<ResponseCreateApplicationDTO>> items = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            items.add(errors.containsKey(i)
+                    ? BulkOperations.failure(i, errors.get(i))
+                    : BulkOperations.success(i, mapToResponse(newApplications.get(i))));
+        }
+        return BulkOperations.toResult(items);
+    }
+
+    /**
+     * Atualiza uma aplicação existente.
+     *
+     * @param id ID da aplicação a ser atualizada.
+     * @param applicationDetails Dados para atualização da aplicação.
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return DTO com os detalhes da aplicação atualizada.
+     * @throws EntityNotFoundException se a aplicação não for encontrada.
+     * @throws UserNotFoundException se o usuário associado não for encontrado.
+     * @throws PreconditionFailedException se o recurso não estiver mais na versão esperada.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.APPLICATIONS, key = "#id")
+    public ResponseDetailByIdDTO updateApplication(Long id, DataUpdateApplication applicationDetails, Set<Long> expectedVersions) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Aplicação não encontrada com o ID: " + id));
+        ETags.requireVersion(id, expectedVersions, application.getVersion());
+
+        logger.info("Atualizando aplicação com ID: {}", id);
+
+        ApplicationStatus previousStatus = application.getStatus();
+        application.setName(applicationDetails.name());
+        application.setDescription(applicationDetails.description());
+        application.setStatus(applicationDetails.status());
+
+        User user = userService.getUserById(applicationDetails.userId());
+        application.setUser(user);
+
+        Application updatedApplication = applicationRepository.saveAndFlush(application);
+        outboxService.record(OutboxAggregate.APPLICATION, id, OutboxEventType.UPDATED);
+        publishStatusChange(id, user.getId(), previousStatus, updatedApplication.getStatus());
+        logger.info("Aplicação atualizada com sucesso. ID: {}", updatedApplication.getId());
+
+        return mapToDetailResponse(updatedApplication);
+    }
+
+    /**
+     * Atualiza parcialmente uma aplicação com um único UPDATE, alterando apenas os campos informados.
+     *
+     * @param id               ID da aplicação.
+     * @param dto              Campos a serem alterados (os nulos são ignorados).
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return ETag da aplicação após a atualização.
+     * @throws EntityNotFoundException     se a aplicação não for encontrada ou estiver inativa.
+     * @throws UserNotFoundException       se o usuário informado não for encontrado.
+     * @throws PreconditionFailedException se a aplicação não estiver mais na versão esperada.
+     * @throws IllegalArgumentException    se nenhum campo for informado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.APPLICATIONS, key = "#id")
+    public String patchApplication(Long id, DataUpdateApplication dto, Set<Long> expectedVersions) {
+        if (dto.userId() != null) {
+            userService.getUserById(dto.userId());
+        }
+        PatchResult result = entityPatchRepository.patchApplication(id, dto, expectedVersions)
+                .orElseThrow(() -> entityPatchRepository.exists("applications", id)
+                        ? new PreconditionFailedException(id, expectedVersions)
+                        : new EntityNotFoundException("Aplicação não encontrada com o ID: " + id));
+        outboxService.record(OutboxAggregate.APPLICATION, id, OutboxEventType.UPDATED);
+        if (dto.status() != null) {
+            publishStatusChange(id, result.userId(), ApplicationStatus.valueOf(result.previousStatus()), dto.status());
+        }
+
+        logger.info("Aplicação atualizada parcialmente com ID: {}", id);
+        return ETags.strong(result.versionTag());
+    }
+
+    /**
+     * Exclui logicamente uma aplicação pelo ID.
+     *
+     * @param id ID da aplicação a ser excluída.
+     * @throws EntityNotFoundException se a aplicação não for encontrada.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.APPLICATIONS, key = "#id")
+    public void deleteApplication(Long id) {
+        Application application = applicationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Aplicação não encontrada com o ID: " + id));
+
+        logger.info("Excluindo logicamente aplicação com ID: {}", id);
+        application.setAtivo(false);
+        applicationRepository.saveAndFlush(application);
+        outboxService.record(OutboxAggregate.APPLICATION, id, OutboxEventType.DELETED);
+        logger.info("Aplicação excluída logicamente com sucesso. ID: {}", id);
+    }
+
+    /**
+     * Exclui logicamente várias aplicações com um único UPDATE.
+     *
+     * @param ids IDs das aplicações a serem excluídas.
+     * @return IDs excluídos e IDs ignorados (inexistentes ou já inativos).
+     * @throws IllegalArgumentException se a lista for vazia ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkUpdateDTO deleteApplications(List<Long> ids) {
+        Long[] requestedIds = BulkOperations.distinctIds(ids);
+        List<Long> deletedIds = applicationRepository.deactivateByIds(requestedIds);
+        outboxService.recordAll(OutboxAggregate.APPLICATION, deletedIds, OutboxEventType.DELETED);
+        cacheInvalidationService.evictAll(CacheNames.APPLICATIONS, deletedIds);
+
+        logger.info("Aplicações excluídas logicamente em lote: {}", deletedIds.size());
+        return BulkOperations.toUpdateResult(requestedIds, deletedIds);
+    }
+
+    /**
+     * Altera o status de várias aplicações ativas com um único UPDATE.
+     *
+     * @param dto IDs das aplicações e o novo status.
+     * @return IDs alterados e IDs ignorados (inexistentes ou inativos).
+     * @throws IllegalArgumentException se a lista for vazia ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkUpdateDTO updateApplicationsStatus(DataUpdateStatusApplicationDTO dto) {
+        Long[] requestedIds = BulkOperations.distinctIds(dto.ids());
+        List<ApplicationStatusChange> changes = applicationRepository.updateStatusByIds(requestedIds, dto.status().name());
+        List<Long> updatedIds = new ArrayList<>(changes.size());
+        for (ApplicationStatusChange change : changes) {
+            updatedIds.add(change.getId());
+            publishStatusChange(change.getId(), change.getUserId(),
+                    ApplicationStatus.valueOf(change.getPreviousStatus()), dto.status());
+        }
+        outboxService.recordAll(OutboxAggregate.APPLICATION, updatedIds, OutboxEventType.UPDATED);
+        cacheInvalidationService.evictAll(CacheNames.APPLICATIONS, updatedIds);
+
+        logger.info("Status alterado para {} em {} aplicações", dto.status().name(), updatedIds.size());
+        return BulkOperations.toUpdateResult(requestedIds, updatedIds);
+    }
+
+    /**
+     * Mapeia os dados de criação para uma entidade Application.
+     *
+     * @param dto Dados de criação da aplicação.
+     * @return Entidade Application.
+     * @throws EntityNotFoundException se o usuário associado não for encontrado.
+     */
+    private Application mapToEntityCreate(DataCreateApplicationDTO dto) {
+        User user = userService.getUserById(dto.userId());
+        if (user == null) {
+            throw new EntityNotFoundException("Usuário não encontrado com o ID: " + dto.userId());
+        }
+        return mapToEntityCreate(dto, user);
+    }
+
+    /**
+     * Mapeia os dados de criação para uma entidade Application com o usuário já resolvido.
+     *
+     * @param dto  Dados de criação da aplicação.
+     * @param user Usuário associado.
+     * @return Entidade Application.
+     */
+    private Application mapToEntityCreate(DataCreateApplicationDTO dto, User user) {
+        Application app = new Application();
+        app.setName(dto.name());
+        app.setDescription(dto.description());
+        app.setStatus(dto.status());
+        app.setAppliedAt(LocalDateTime.now());
+        app.setUser(user);
+        return app;
+    }
+
+    /**
+     * Mapeia uma entidade Application para um DTO de criação.
+     *
+     * @param application Entidade Application.
+     * @return DTO de criação da aplicação.
+     */
+    private ResponseCreateApplicationDTO mapToResponse(Application application) {
+        return new ResponseCreateApplicationDTO(
+                application.getId(),
+                application.getName(),
+                application.getDescription(),
+                application.getStatus(),
+                application.getUser().getId(),
+                application.getUser().getName()
+        );
+    }
+
+    /**
+     * Mapeia uma entidade Application para um DTO detalhado.
+     *
+     * @param application Entidade Application.
+     * @return DTO detalhado da aplicação.
+     */
+    private ResponseDetailByIdDTO mapToDetailResponse(Application application) {
+        return new ResponseDetailByIdDTO(
+                application.getId(),
+                application.getName(),
+                application.getDescription(),
+                application.getStatus().name(),
+                application.getUser().getId(),
+                application.getUser().getName()
+        );
+    }
+
+    /**
+     * Publica a mudança de status para os ouvintes que rodam após o commit (histórico de status).
+     * Atualizações que mantêm o mesmo status não geram evento.
+     *
+     * @param id             ID da aplicação.
+     * @param userId         Usuário dono da aplicação.
+     * @param previousStatus Status antes da atualização.
+     * @param newStatus      Status após a atualização.
+     */
+    private void publishStatusChange(Long id, Long userId, ApplicationStatus previousStatus, ApplicationStatus newStatus) {
+        if (previousStatus != newStatus) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                    id, userId, previousStatus, newStatus, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Mapeia as contagens agregadas no banco para o DTO de estatísticas, preenchendo com zero
+     * os status sem aplicações.
+     *
+     * @param ownerId ID do usuário ou da empresa.
+     * @param counts  Quantidade de aplicações por status.
+     * @return DTO com o total e a quantidade por status.
+     */
+    private ResponseStatusStatsDTO mapToStatusStats(Long ownerId, List<ApplicationStatusCount> counts) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status.name(), 0L);
+        }
+        long total = 0;
+        for (ApplicationStatusCount count : counts) {
+            byStatus.put(count.getStatus().name(), count.getTotal());
+            total += count.getTotal();
+        }
+        return new ResponseStatusStatsDTO(ownerId, total, byStatus);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.event.ApplicationStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava o histórico de status das aplicações fora da requisição.
+ * <p>
+ * As mudanças de status entram, após o commit, em uma fila limitada em memória. Uma thread em
+ * segundo plano esvazia a fila em lotes de até {@code kodikas.status-history.batch-size} linhas com
+ * um único {@code batchUpdate}. Com a fila cheia, a política {@code kodikas.status-history.overflow-policy}
+ * decide entre descartar o evento ({@code DROP}, perda limitada e contada em
+ * {@code kodikas.status_history.dropped}) ou segurar a requisição até abrir espaço ({@code BLOCK}).
+ * No desligamento a fila é gravada por completo antes de o DataSource ser fechado.
+ */
+@Service
+public class ApplicationStatusHistoryWriter implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStatusHistoryWriter.class);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO application_status_history (application_id, user_id, previous_status, new_status, changed_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ApplicationStatusChangedEvent> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ApplicationStatusHistoryWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                          @Value("${kodikas.status-history.queue-capacity:10000}") int queueCapacity,
+                                          @Value("${kodikas.status-history.batch-size:500}") int batchSize,
+                                          @Value("${kodikas.status-history.flush-interval-ms:200}") long flushIntervalMillis,
+                                          @Value("${kodikas.status-history.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+
+        Gauge.builder("kodikas.status_history.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("kodikas.status_history.written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("kodikas.status_history.dropped").register(meterRegistry);
+        this.batchTimer = Timer.builder("kodikas.status_history.batch").register(meterRegistry);
+    }
+
+    /**
+     * Enfileira a mudança de status após o commit da transação que a causou.
+     *
+     * @param event Mudança de status.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        if (!running) {
+            // Desligando: a thread de gravação pode já ter terminado, então grava aqui mesmo
+            write(List.of(event));
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                droppedCounter.increment();
+            }
+        } else if (!queue.offer(event)) {
+            droppedCounter.increment();
+            logger.warn("Fila do histórico de status cheia; mudança da aplicação {} descartada.", event.applicationId());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "status-history-writer");
+        worker.start();
+        logger.info("Gravação do histórico de status iniciada (lote {}, política {}).", batchSize, overflowPolicy);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushRemaining();
+        logger.info("Gravação do histórico de status encerrada.");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Para depois do servidor web, para que as requisições em andamento ainda enfileirem seus eventos.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<ApplicationStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                ApplicationStatusChangedEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<ApplicationStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<ApplicationStatusChangedEvent> batch) {
+        try {
+            batchTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                ps.setLong(1, event.applicationId());
+                ps.setLong(2, event.userId());
+                ps.setString(3, event.previousStatus() != null ? event.previousStatus().name() : null);
+                ps.setString(4, event.newStatus().name());
+                ps.setTimestamp(5, Timestamp.valueOf(event.changedAt()));
+            }));
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            droppedCounter.increment(batch.size());
+            logger.error("Falha ao gravar {} mudanças no histórico de status: {}", batch.size(), e.getMessage());
+        }
+    }
+}
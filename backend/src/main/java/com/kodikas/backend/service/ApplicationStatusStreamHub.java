@@ -0,0 +1,279 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.applicationsDTO.ResponseStatusChangeDTO;
+import com.kodikas.backend.event.ApplicationStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribui as mudanças de status das aplicações para os clientes conectados por Server-Sent Events.
+ * <p>
+ * Cada conexão é um {@link SseEmitter} assíncrono, então um assinante ocioso não ocupa thread. As
+ * mudanças entram em um buffer limitado por assinante e são enviadas por um pool compartilhado
+ * ({@code kodikas.status-stream.threads}); um assinante cujo buffer enche, por não acompanhar o ritmo
+ * dos eventos, é desconectado e pode reconectar. Heartbeats periódicos mantêm as conexões vivas
+ * através de proxies e revelam conexões já fechadas.
+ * <p>
+ * O envio é bloqueante, então um cliente que para de ler prende o thread que está escrevendo para ele
+ * até o timeout de escrita do Tomcat. Um envio parado por mais de {@code kodikas.status-stream.send-timeout-ms}
+ * desconecta esse assinante e o pool ganha um thread enquanto o envio não retorna, para que os demais
+ * assinantes não fiquem sem enviador, encham o buffer e sejam desconectados no lugar dele.
+ */
+@Service
+public class ApplicationStatusStreamHub implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStatusStreamHub.class);
+
+    private static final String EVENT_NAME = "status";
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final int threads;
+    private final long sendTimeoutMillis;
+    private final Counter evictedCounter;
+
+    private ThreadPoolExecutor senderExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+    private volatile boolean running;
+
+    public ApplicationStatusStreamHub(MeterRegistry meterRegistry,
+                                      @Value("${kodikas.status-stream.buffer-size:64}") int bufferSize,
+                                      @Value("${kodikas.status-stream.timeout-ms:1800000}") long timeoutMillis,
+                                      @Value("${kodikas.status-stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                                      @Value("${kodikas.status-stream.threads:4}") int threads,
+                                      @Value("${kodikas.status-stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.threads = threads;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+
+        Gauge.builder("kodikas.status_stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("kodikas.status_stream.evicted").register(meterRegistry);
+    }
+
+    /**
+     * Registra um novo assinante das mudanças de status das aplicações de um usuário.
+     *
+     * @param userId ID do usuário.
+     * @return Emitter da conexão SSE.
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> current = set != null ? set : ConcurrentHashMap.newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        subscriberCount.incrementAndGet();
+        logger.info("Novo assinante de status para o usuário {}.", userId);
+        return emitter;
+    }
+
+    /**
+     * Encaminha a mudança de status, após o commit, para os assinantes do dono da aplicação.
+     *
+     * @param event Mudança de status.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        ResponseStatusChangeDTO change = new ResponseStatusChangeDTO(
+                event.applicationId(),
+                event.previousStatus() != null ? event.previousStatus().name() : null,
+                event.newStatus().name(),
+                event.changedAt().toString());
+        for (Subscriber subscriber : targets) {
+            if (subscriber.buffer.offer(change)) {
+                scheduleDrain(subscriber);
+            } else {
+                evict(subscriber, "por não acompanhar os eventos");
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        senderExecutor = new ThreadPoolExecutor(threads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), Thread.ofPlatform().name("status-stream-", 0).factory());
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("status-stream-heartbeat").factory());
+        heartbeatScheduler.scheduleAtFixedRate(this::heartbeat,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        long checkIntervalMillis = Math.max(sendTimeoutMillis / 2, 1);
+        heartbeatScheduler.scheduleAtFixedRate(this::evictStalledSends,
+                checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeatScheduler.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        subscriberCount.set(0);
+        senderExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                subscriber.heartbeatPending = true;
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Desconecta os assinantes com um envio em andamento há mais que o timeout de envio. O thread preso
+     * nesse envio é compensado com um thread extra no pool até o envio retornar.
+     */
+    private void evictStalledSends() {
+        long now = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                long startedAt = subscriber.sendStartedAt;
+                if (startedAt != 0 && now - startedAt > timeoutNanos && subscriber.stalled.compareAndSet(false, true)) {
+                    resizeSenders(1);
+                    evict(subscriber, "por envio parado há mais de " + sendTimeoutMillis + " ms");
+                    // Se o envio terminou nesse meio tempo, o próximo drain devolve o thread extra
+                    scheduleDrain(subscriber);
+                }
+            }
+        }
+    }
+
+    private void resizeSenders(int delta) {
+        synchronized (senderExecutor) {
+            senderExecutor.setCorePoolSize(senderExecutor.getCorePoolSize() + delta);
+        }
+    }
+
+    /**
+     * Agenda o envio do buffer do assinante, garantindo no máximo um envio em andamento por conexão.
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (running && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senderExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            if (subscriber.heartbeatPending) {
+                subscriber.heartbeatPending = false;
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+            ResponseStatusChangeDTO change;
+            while (!subscriber.closed && (change = subscriber.buffer.poll()) != null) {
+                send(subscriber, SseEmitter.event().name(EVENT_NAME).data(change, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Conexão encerrada pelo cliente; o emitter já não aceita envios
+            remove(subscriber);
+            subscriber.closed = true;
+            return;
+        } finally {
+            if (subscriber.stalled.compareAndSet(true, false)) {
+                resizeSenders(-1);
+            }
+            subscriber.draining.set(false);
+        }
+        if (subscriber.closed || !subscriber.buffer.isEmpty() || subscriber.heartbeatPending) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    /**
+     * Remove o assinante e encerra a conexão pelo thread de envio, que é quem pode estar usando o emitter.
+     */
+    private void evict(Subscriber subscriber, String reason) {
+        if (remove(subscriber)) {
+            evictedCounter.increment();
+            logger.warn("Assinante de status do usuário {} desconectado {}.", subscriber.userId, reason);
+            subscriber.closed = true;
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            removed.set(set.remove(subscriber));
+            return set.isEmpty() ? null : set;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+        return removed.get();
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ResponseStatusChangeDTO> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private volatile boolean heartbeatPending;
+        private volatile boolean closed;
+        private volatile long sendStartedAt;
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<ResponseStatusChangeDTO> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.constants.CacheNames;
+import com.kodikas.backend.repository.ApplicationRepositoy;
+import com.kodikas.backend.repository.ProjectRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Serviço auxiliar para invalidar entradas de cache afetadas por alterações em outras entidades,
+ * como a lista de usuários de uma empresa quando um usuário muda de empresa.
+ * Dentro de uma transação, as remoções só acontecem após o commit
+ * (ver {@link com.kodikas.backend.config.TransactionAwareCachePostProcessor}).
+ */
+@Service
+public class CacheInvalidationService {
+
+    private final CacheManager cacheManager;
+    private final ProjectRepository projectRepository;
+    private final ApplicationRepositoy applicationRepository;
+
+    public CacheInvalidationService(CacheManager cacheManager, ProjectRepository projectRepository,
+                                    ApplicationRepositoy applicationRepository) {
+        this.cacheManager = cacheManager;
+        this.projectRepository = projectRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    /**
+     * Remove a entrada de um ID do cache informado.
+     *
+     * @param cacheName Nome do cache.
+     * @param id        ID da entidade, ignorado se for null.
+     */
+    public void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && id != null) {
+            cache.evict(id);
+        }
+    }
+
+    /**
+     * Remove as entradas de vários IDs do cache informado.
+     *
+     * @param cacheName Nome do cache.
+     * @param ids       IDs das entidades.
+     */
+    public void evictAll(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && ids != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    /**
+     * Remove os projetos e aplicações ativos dos usuários informados. Os detalhes em cache deles
+     * trazem o nome do usuário e o ETag inclui a versão do usuário, então qualquer alteração no
+     * usuário os torna obsoletos.
+     *
+     * @param userIds IDs dos usuários alterados.
+     */
+    public void evictUserDependents(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        evictAll(CacheNames.PROJECTS, projectRepository.findActiveIdsByUserIdIn(userIds));
+        evictAll(CacheNames.APPLICATIONS, applicationRepository.findActiveIdsByUserIdIn(userIds));
+    }
+
+    /**
+     * Remove os projetos ativos da empresa informada, cujos detalhes em cache trazem o nome da
+     * empresa e cujo ETag inclui a versão dela.
+     *
+     * @param companyId ID da empresa alterada.
+     */
+    public void evictCompanyDependents(Long companyId) {
+        if (companyId != null) {
+            evictAll(CacheNames.PROJECTS, projectRepository.findActiveIdsByCompanyId(companyId));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.Project;
+import com.kodikas.backend.model.User;
+import com.kodikas.backend.repository.ProjectRepository;
+import com.kodikas.backend.repository.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço auxiliar para gerenciar associações entre empresas, usuários e projetos.
+ */
+@Service
+public class CompanyProjectHelperService {
+    private static final Logger logger = LoggerFactory.getLogger(CompanyProjectHelperService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    /**
+     * Obtém um usuário pelo ID.
+     *
+     * @param userId o ID do usuário a ser buscado
+     * @return o usuário encontrado
+     * @throws EntityNotFoundException se o usuário não for encontrado
+     */
+    public User getUserById(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("Usuário não encontrado com o ID: " + userId));
+    }
+
+    /**
+     * Obtém um projeto pelo ID.
+     *
+     * @param projectId o ID do projeto a ser buscado
+     * @return o projeto encontrado
+     * @throws EntityNotFoundException se o projeto não for encontrado
+     */
+    public Project getProjectById(Long projectId) {
+        return projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + projectId));
+    }
+
+    /**
+     * Associa um conjunto de usuários a uma empresa com um único UPDATE.
+     * Usuários que já pertencem à empresa não são alterados.
+     * As linhas são travadas antes da troca, então as empresas anteriores retornadas são exatas.
+     *
+     * @param usersIds os IDs dos usuários a serem associados
+     * @param company  a empresa à qual os usuários serão associados
+     * @return os IDs distintos das empresas de onde os usuários saíram
+     * @throws EntityNotFoundException se algum dos usuários não for encontrado
+     */
+    public Set<Long> associateUsersWithCompany(Collection<Long> usersIds, Company company) {
+        Set<Long> requestedIds = new LinkedHashSet<>(usersIds);
+        List<Long> missingIds = findMissingIds(requestedIds, userRepository.findIdsByIdIn(requestedIds));
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Usuários não encontrados com os IDs: " + missingIds);
+        }
+
+        List<Long> previousCompanyIds = userRepository.assignCompany(company.getId(), requestedIds.toArray(Long[]::new));
+        logger.info("{} usuário(s) associado(s) à empresa com ID {}", previousCompanyIds.size(), company.getId());
+        return distinctNonNull(previousCompanyIds);
+    }
+
+    /**
+     * Associa um conjunto de projetos a uma empresa com um único UPDATE.
+     * Projetos que já pertencem à empresa não são alterados.
+     * As linhas são travadas antes da troca, então as empresas anteriores retornadas são exatas.
+     *
+     * @param projectsIds os IDs dos projetos a serem associados
+     * @param company     a empresa à qual os projetos serão associados
+     * @return os IDs distintos das empresas de onde os projetos saíram
+     * @throws EntityNotFoundException se algum dos projetos não for encontrado
+     */
+    public Set<Long> associateProjectsWithCompany(Collection<Long> projectsIds, Company company) {
+        Set<Long> requestedIds = new LinkedHashSet<>(projectsIds);
+        List<Long> missingIds = findMissingIds(requestedIds, projectRepository.findIdsByIdIn(requestedIds));
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Projetos não encontrados com os IDs: " + missingIds);
+        }
+
+        List<Long> previousCompanyIds = projectRepository.assignCompany(company.getId(), requestedIds.toArray(Long[]::new));
+        logger.info("{} projeto(s) associado(s) à empresa com ID {}", previousCompanyIds.size(), company.getId());
+        return distinctNonNull(previousCompanyIds);
+    }
+
+    /**
+     * Descarta os nulos (membros que não tinham empresa) e as repetições.
+     *
+     * @param ids os IDs retornados pela atualização
+     * @return os IDs distintos e não nulos
+     */
+    private Set<Long> distinctNonNull(List<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Retorna os IDs solicitados que não existem no banco, preservando a ordem da requisição.
+     *
+     * @param requestedIds os IDs solicitados
+     * @param existingIds  os IDs encontrados no banco
+     * @return os IDs não encontrados
+     */
+    private List<Long> findMissingIds(Set<Long> requestedIds, List<Long> existingIds) {
+        Set<Long> found = new HashSet<>(existingIds);
+        return requestedIds.stream()
+                .filter(id -> !found.contains(id))
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,416 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.constants.CacheNames;
+import com.kodikas.backend.dto.companiesDTO.DataCreateCompanyDTO;
+import com.kodikas.backend.dto.companiesDTO.DataUpdateCompany;
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.exception.CompanyNotFoundException;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.outbox.OutboxAggregate;
+import com.kodikas.backend.outbox.OutboxEventType;
+import com.kodikas.backend.outbox.OutboxService;
+import com.kodikas.backend.repository.CompanyRepository;
+import com.kodikas.backend.repository.EntityPatchRepository;
+import com.kodikas.backend.repository.projection.CompanyMemberId;
+import com.kodikas.backend.util.CursorPagination;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço responsável por gerenciar as operações relacionadas às empresas.
+ */
+@Service
+public class CompanyService {
+    private static final Logger logger = LoggerFactory.getLogger(CompanyService.class);
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CompanyProjectHelperService helperService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private EntityPatchRepository entityPatchRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    /**
+     * Obtém uma página de empresas ativas, ordenadas pelo ID.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return Página de empresas ativas, com o ETag lido no mesmo snapshot.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseCursorPage<ResponseCreateCompany>> getAllActiveCompanies(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        List<Company> rows = companyRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(
+                CursorPagination.decodeCursor(after), Limit.of(pageSize + 1));
+
+        ResponseCursorPage<ResponseCreateCompany> page = CursorPagination.toPage(
+                rows, pageSize, Company::getId, this::mapToResponseList);
+        return new Tagged<>(getCompaniesPageETag(after, limit), page);
+    }
+
+    /**
+     * Calcula o ETag da empresa a partir da versão e dos IDs dos usuários e projetos vinculados,
+     * que compõem a resposta, sem carregá-la.
+     *
+     * @param id ID da empresa.
+     * @return ETag forte ou null se a empresa não existir.
+     */
+    @Transactional(readOnly = true)
+    public String getCompanyETag(Long id) {
+        return companyRepository.findVersionTagById(id).map(ETags::strong).orElse(null);
+    }
+
+    /**
+     * Calcula o ETag de uma página de empresas ativas a partir das versões das linhas da página,
+     * sem carregar as entidades nem serializar a resposta.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return ETag forte da página.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public String getCompaniesPageETag(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        return ETags.forPage(companyRepository.findPageVersionHash(CursorPagination.decodeCursor(after), pageSize + 1));
+    }
+
+    /**
+     * Obtém os detalhes de uma empresa pelo ID.
+     *
+     * @param id ID da empresa.
+     * @return Detalhes da empresa, com o ETag lido no mesmo snapshot.
+     * @throws EntityNotFoundException se a empresa não for encontrada.
+     */
+    @Cacheable(cacheNames = CacheNames.COMPANIES, key = "#id")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseCreateCompany> getCompanyById(Long id) {
+        Company company = companyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id));
+
+        logger.info("Empresa encontrada com ID: {}", id);
+        return new Tagged<>(getCompanyETag(id), mapToResponse(company, findMembers(company.getId())));
+    }
+
+    /**
+     * Cria uma nova empresa.
+     *
+     * @param company Dados para criação da empresa.
+     * @return Detalhes da empresa criada.
+     */
+    @Transactional
+    public ResponseCreateCompany createCompany(DataCreateCompanyDTO company) {
+        Company newCompany = new Company();
+        newCompany.setName(company.name());
+        newCompany.setDescription(company.description());
+        newCompany.setCreatedAt(LocalDateTime.now());
+        newCompany.setAtivo(true);
+
+        Company savedCompany = companyRepository.save(newCompany);
+        outboxService.record(OutboxAggregate.COMPANY, savedCompany.getId(), OutboxEventType.CREATED);
+        logger.info("Empresa criada com ID: {}", savedCompany.getId());
+        return mapToResponse(savedCompany, CompanyMembers.EMPTY);
+    }
+
+    /**
+     * Atualiza os dados de uma empresa existente.
+     *
+     * @param id             ID da empresa a ser atualizada.
+     * @param companyDetails Dados para atualização da empresa.
+     * @param expectedTags ETags aceitos pelo If-Match (sem aspas) ou vazio para não verificar.
+     * @return Detalhes da empresa atualizada.
+     * @throws EntityNotFoundException se a empresa ou algum usuário ou projeto informado não for encontrado.
+     * @throws PreconditionFailedException se o recurso não estiver mais no ETag esperado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPANIES, key = "#id")
+    public ResponseCreateCompany updateCompany(Long id, DataUpdateCompany companyDetails, Set<String> expectedTags) {
+        if (!expectedTags.isEmpty()) {
+            lockAndRequireTag(id, expectedTags);
+        }
+        Company company = companyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id));
+
+        logger.info("Atualizando empresa com ID: {}", id);
+
+        if (companyDetails.name() != null) {
+            company.setName(companyDetails.name());
+        }
+        if (companyDetails.description() != null) {
+            company.setDescription(companyDetails.description());
+        }
+
+        Company updatedCompany = companyRepository.saveAndFlush(company);
+        outboxService.record(OutboxAggregate.COMPANY, id, OutboxEventType.UPDATED);
+        cacheInvalidationService.evictCompanyDependents(id);
+
+        updateUsersForCompany(updatedCompany, companyDetails.usersIds());
+        updateProjectsForCompany(updatedCompany, companyDetails.projectsIds());
+
+        logger.info("Empresa atualizada com ID: {}", updatedCompany.getId());
+        return mapToResponse(updatedCompany, findMembers(updatedCompany.getId()));
+    }
+
+    /**
+     * Atualiza parcialmente uma empresa com um único UPDATE, alterando apenas os campos informados.
+     * Os vínculos de usuários e projetos, quando informados, são aplicados na mesma transação pelas
+     * atualizações em lote do {@link CompanyProjectHelperService}.
+     *
+     * @param id               ID da empresa.
+     * @param dto          Campos a serem alterados (os nulos e {@code ativo} são ignorados).
+     * @param expectedTags ETags aceitos pelo If-Match (sem aspas) ou vazio para não verificar.
+     * @return ETag da empresa após a atualização.
+     * @throws EntityNotFoundException     se a empresa (ativa) ou algum usuário ou projeto informado não for encontrado.
+     * @throws PreconditionFailedException se a empresa não estiver mais no ETag esperado.
+     * @throws IllegalArgumentException    se nenhum campo for informado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPANIES, key = "#id")
+    public String patchCompany(Long id, DataUpdateCompany dto, Set<String> expectedTags) {
+        boolean hasMembers = (dto.usersIds() != null && !dto.usersIds().isEmpty())
+                || (dto.projectsIds() != null && !dto.projectsIds().isEmpty());
+        String versionTag = lockAndRequireTag(id, expectedTags);
+        if (dto.name() != null || dto.description() != null || !hasMembers) {
+            versionTag = entityPatchRepository.patchCompany(id, dto)
+                    .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id))
+                    .versionTag();
+            cacheInvalidationService.evictCompanyDependents(id);
+        }
+
+        outboxService.record(OutboxAggregate.COMPANY, id, OutboxEventType.UPDATED);
+
+        if (hasMembers) {
+            Company company = companyRepository.getReferenceById(id);
+            updateUsersForCompany(company, dto.usersIds());
+            updateProjectsForCompany(company, dto.projectsIds());
+            versionTag = companyRepository.findVersionTagById(id).orElse(versionTag);
+        }
+
+        logger.info("Empresa atualizada parcialmente com ID: {}", id);
+        return ETags.strong(versionTag);
+    }
+
+    /**
+     * Exclui logicamente uma empresa pelo ID.
+     *
+     * @param id ID da empresa a ser excluída.
+     * @throws EntityNotFoundException se a empresa não for encontrada ou se houver usuários ou projetos associados.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.COMPANIES, key = "#id")
+    public void deleteCompany(Long id) {
+        Company company = companyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id));
+
+        if (!company.getAtivo()) {
+            logger.warn("Tentativa de excluir logicamente uma empresa já inativa com ID: {}", id);
+            throw new EntityNotFoundException("Empresa já está inativa com o ID: " + id);
+        }
+
+        if (company.getUsers() != null && !company.getUsers().isEmpty()) {
+            logger.warn("Tentativa de excluir logicamente uma empresa com usuários associados. ID: {}", id);
+            throw new EntityNotFoundException("Não é possível excluir logicamente uma empresa com usuários associados. ID: " + id);
+        }
+
+        if (company.getProjects() != null && !company.getProjects().isEmpty()) {
+            logger.warn("Tentativa de excluir logicamente uma empresa com projetos associados. ID: {}", id);
+            throw new EntityNotFoundException("Não é possível excluir logicamente uma empresa com projetos associados. ID: " + id);
+        }
+
+        logger.info("Excluindo logicamente a empresa com ID: {}", id);
+        company.setAtivo(false);
+        companyRepository.saveAndFlush(company);
+        outboxService.record(OutboxAggregate.COMPANY, id, OutboxEventType.DELETED);
+        logger.info("Empresa excluída logicamente com sucesso. ID: {}", id);
+    }
+
+    /**
+     * Trava a linha da empresa e confere o ETag completo (versão e vínculos) com o {@code If-Match}.
+     * Como os vínculos não avançam a versão da empresa, comparar só a versão aceitaria um ETag com
+     * outra lista de usuários ou projetos.
+     *
+     * @param id           ID da empresa.
+     * @param expectedTags ETags aceitos pelo If-Match (sem aspas) ou vazio para não verificar.
+     * @return ETag atual da empresa, sem aspas.
+     * @throws EntityNotFoundException     se a empresa não for encontrada ou estiver inativa.
+     * @throws PreconditionFailedException se o ETag atual não estiver entre os aceitos.
+     */
+    private String lockAndRequireTag(Long id, Set<String> expectedTags) {
+        String versionTag = companyRepository.lockVersionTagById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id));
+        ETags.requireTag(id, expectedTags, versionTag);
+        return versionTag;
+    }
+
+    /**
+     * Obtém uma empresa pelo ID.
+     *
+     * @param id ID da empresa.
+     * @return Entidade da empresa.
+     * @throws EntityNotFoundException se a empresa não for encontrada.
+     */
+    public Company getCompany(Long id) {
+        return companyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Empresa não encontrada com o ID: " + id));
+    }
+
+    /**
+     * Busca os IDs de usuários e projetos vinculados a uma empresa.
+     *
+     * @param companyId ID da empresa.
+     * @return IDs dos usuários e projetos da empresa.
+     */
+    private CompanyMembers findMembers(Long companyId) {
+        return findMembers(List.of(companyId)).getOrDefault(companyId, CompanyMembers.EMPTY);
+    }
+
+    /**
+     * Busca, em uma única consulta, os IDs de usuários e projetos vinculados a cada empresa,
+     * sem carregar as coleções {@code users} e {@code projects}.
+     *
+     * @param companyIds IDs das empresas.
+     * @return Mapa do ID da empresa para os IDs de seus usuários e projetos.
+     */
+    private Map<Long, CompanyMembers> findMembers(List<Long> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CompanyMembers> members = new HashMap<>();
+        for (CompanyMemberId member : companyRepository.findMemberIdsByCompanyIds(companyIds)) {
+            CompanyMembers companyMembers = members.computeIfAbsent(member.getCompanyId(),
+                    key -> new CompanyMembers(new ArrayList<>(), new ArrayList<>()));
+            if (CompanyMemberId.USER.equals(member.getKind())) {
+                companyMembers.usersIds().add(member.getMemberId());
+            } else {
+                companyMembers.projectsIds().add(member.getMemberId());
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Mapeia uma página de empresas para DTOs de resposta, buscando os vínculos de todas elas de uma vez.
+     *
+     * @param companies Entidades das empresas.
+     * @return DTOs de resposta das empresas.
+     */
+    private List<ResponseCreateCompany> mapToResponseList(List<Company> companies) {
+        Map<Long, CompanyMembers> members = findMembers(companies.stream().map(Company::getId).toList());
+        return companies.stream()
+                .map(company -> mapToResponse(company, members.getOrDefault(company.getId(), CompanyMembers.EMPTY)))
+                .toList();
+    }
+
+    /**
+     * Mapeia uma entidade Company para um DTO de resposta.
+     *
+     * @param company Entidade da empresa.
+     * @param members IDs dos usuários e projetos vinculados à empresa.
+     * @return DTO de resposta da empresa.
+     */
+    private ResponseCreateCompany mapToResponse(Company company, CompanyMembers members) {
+        return new ResponseCreateCompany(
+                company.getId(),
+                company.getName(),
+                company.getDescription(),
+                company.getCreatedAt().toString(),
+                company.getAtivo(),
+                members.usersIds(),
+                members.projectsIds()
+        );
+    }
+
+    /**
+     * Atualiza os usuários associados a uma empresa.
+     *
+     * @param company  Empresa a ser atualizada.
+     * @param usersIds IDs dos usuários a serem associados.
+     * @throws EntityNotFoundException se algum dos usuários não for encontrado.
+     */
+    private void updateUsersForCompany(Company company, List<Long> usersIds) {
+        if (usersIds != null && !usersIds.isEmpty()) {
+            Set<Long> previousCompanyIds = helperService.associateUsersWithCompany(usersIds, company);
+            outboxService.recordAll(OutboxAggregate.USER, usersIds, OutboxEventType.UPDATED);
+            cacheInvalidationService.evictAll(CacheNames.USERS, usersIds);
+            cacheInvalidationService.evictAll(CacheNames.COMPANIES, previousCompanyIds);
+            cacheInvalidationService.evictUserDependents(usersIds);
+        }
+    }
+
+    /**
+     * Atualiza os projetos associados a uma empresa.
+     *
+     * @param company     Empresa a ser atualizada.
+     * @param projectsIds IDs dos projetos a serem associados.
+     * @throws EntityNotFoundException se algum dos projetos não for encontrado.
+     */
+    private void updateProjectsForCompany(Company company, List<Long> projectsIds) {
+        if (projectsIds != null && !projectsIds.isEmpty()) {
+            Set<Long> previousCompanyIds = helperService.associateProjectsWithCompany(projectsIds, company);
+            outboxService.recordAll(OutboxAggregate.PROJECT, projectsIds, OutboxEventType.UPDATED);
+            cacheInvalidationService.evictAll(CacheNames.PROJECTS, projectsIds);
+            cacheInvalidationService.evictAll(CacheNames.COMPANIES, previousCompanyIds);
+        }
+    }
+
+    /**
+     * Obtém várias empresas pelo ID com uma única consulta.
+     *
+     * @param ids IDs das empresas.
+     * @return Mapa do ID para a entidade da empresa; IDs inexistentes ficam ausentes do mapa.
+     */
+    public Map<Long, Company> getCompaniesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return companyRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Company::getId, Function.identity()));
+    }
+
+    public Company getCompanyOrThrow(Long id) {
+        Company company = getCompany(id);
+        if (company == null) {
+            throw new CompanyNotFoundException(id);
+        }
+        return company;
+    }
+
+    /**
+     * IDs dos usuários e projetos vinculados a uma empresa.
+     */
+    record CompanyMembers(List<Long> usersIds, List<Long> projectsIds) {
+        static final CompanyMembers EMPTY = new CompanyMembers(List.of(), List.of());
+    }
+}
\ No newline at end of file
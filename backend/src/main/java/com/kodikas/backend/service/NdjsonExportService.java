@@ -0,0 +1,56 @@
+package com.kodikas.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Serviço que escreve resultados de consultas em streaming no formato NDJSON
+ * (um objeto JSON por linha), sem materializar a lista completa em memória.
+ */
+@Service
+public class NdjsonExportService {
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public NdjsonExportService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Escreve cada linha do stream como um objeto JSON seguido de quebra de linha.
+     * O stream de saída não é fechado.
+     *
+     * @param rows Linhas a serem exportadas; deve ser consumido dentro de uma transação.
+     * @param out  Stream de saída da resposta.
+     * @return Quantidade de linhas escritas.
+     * @throws IOException se ocorrer erro de escrita.
+     */
+    public <T> long write(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Cada valor termina com '\n'; o separador padrão entre valores raiz (espaço) deixaria " {...}"
+            generator.setRootValueSeparator(null);
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
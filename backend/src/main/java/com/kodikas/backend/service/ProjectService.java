@@ -0,0 +1,444 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.constants.CacheNames;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkItem;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkResult;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.projectsDTO.*;
+import com.kodikas.backend.exception.CompanyNotFoundException;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.Project;
+import com.kodikas.backend.model.User;
+import com.kodikas.backend.outbox.OutboxAggregate;
+import com.kodikas.backend.outbox.OutboxEventType;
+import com.kodikas.backend.outbox.OutboxService;
+import com.kodikas.backend.repository.EntityPatchRepository;
+import com.kodikas.backend.repository.EntityPatchRepository.PatchResult;
+import com.kodikas.backend.repository.ProjectRepository;
+import com.kodikas.backend.util.BulkOperations;
+import com.kodikas.backend.util.CursorPagination;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável por gerenciar as operações relacionadas aos projetos.
+ */
+@Service
+public class ProjectService {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectService.class);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private CacheInvalidationService cacheInvalidationService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private NdjsonExportService ndjsonExportService;
+
+    @Autowired
+    private EntityPatchRepository entityPatchRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    /**
+     * Obtém uma página de projetos ativos, ordenados pelo ID.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return Página de DTOs de projetos ativos, com o ETag lido no mesmo snapshot.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseCursorPage<ResponseListProject>> getAllProjects(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        List<Project> rows = projectRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(
+                CursorPagination.decodeCursor(after), Limit.of(pageSize + 1));
+
+        ResponseCursorPage<ResponseListProject> page = CursorPagination.toPage(rows, pageSize, Project::getId, slice -> slice.stream()
+                .map(this::mapToResponseList)
+                .toList());
+        return new Tagged<>(getProjectsPageETag(after, limit), page);
+    }
+
+    /**
+     * Exporta todos os projetos ativos em NDJSON, lendo do banco em streaming com cursor no servidor.
+     * O uso de memória independe do tamanho da tabela.
+     *
+     * @param out Stream de saída da resposta.
+     * @throws IOException se ocorrer erro de escrita.
+     */
+    @Transactional(readOnly = true)
+    public void exportActiveProjects(OutputStream out) throws IOException {
+        try (Stream<ResponseListProject> rows = projectRepository.streamAllActive()) {
+            long count = ndjsonExportService.write(rows, out);
+            logger.info("Exportação de projetos concluída. Linhas: {}", count);
+        }
+    }
+
+    /**
+     * Calcula o ETag do projeto a partir das versões que compõem a resposta, sem carregá-lo.
+     *
+     * @param id ID do projeto.
+     * @return ETag forte ou null se o projeto não existir.
+     */
+    @Transactional(readOnly = true)
+    public String getProjectETag(Long id) {
+        return projectRepository.findVersionTagById(id).map(ETags::strong).orElse(null);
+    }
+
+    /**
+     * Calcula o ETag de uma página de projetos ativos a partir das versões das linhas da página,
+     * sem carregar as entidades nem serializar a resposta.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return ETag forte da página.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public String getProjectsPageETag(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        return ETags.forPage(projectRepository.findPageVersionHash(CursorPagination.decodeCursor(after), pageSize + 1));
+    }
+
+    /**
+     * Obtém os detalhes de um projeto pelo ID.
+     *
+     * @param id ID do projeto.
+     * @return DTO com os detalhes do projeto, com o ETag lido no mesmo snapshot.
+     * @throws IllegalArgumentException se o projeto não for encontrado.
+     */
+    @Cacheable(cacheNames = CacheNames.PROJECTS, key = "#id")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseDetailsProject> getProjectById(Long id) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado com o ID: " + id));
+
+        logger.info("Projeto encontrado com ID: {}", id);
+        return new Tagged<>(getProjectETag(id), mapToResponseDetails(project));
+    }
+
+    /**
+     * Cria um novo projeto.
+     *
+     * @param project Dados para criação do projeto.
+     * @return DTO com os detalhes do projeto criado.
+     * @throws IllegalArgumentException se o usuário ou a empresa não forem encontrados.
+     */
+    @Transactional
+    public ResponseCreateProjectDTO createProject(DataCreateProjectDTO project) {
+        User user = userService.getUserById(project.userId());
+        Company company = companyService.getCompany(project.companyId());
+
+        if (company == null) {
+            logger.error("Empresa não encontrada com ID: {}", project.companyId());
+            throw new IllegalArgumentException("Empresa não encontrada");
+        }
+
+        if (user == null) {
+            logger.error("Usuário não encontrado com ID: {}", project.userId());
+            throw new IllegalArgumentException("Usuário não encontrado");
+        }
+
+        Project newProject = mapToEntityCreate(project, user, company);
+
+        logger.info("Cadastrando novo projeto: {}", newProject.getName());
+
+        Project savedProject = projectRepository.save(newProject);
+        outboxService.record(OutboxAggregate.PROJECT, savedProject.getId(), OutboxEventType.CREATED);
+        cacheInvalidationService.evict(CacheNames.COMPANIES, company.getId());
+
+        return mapToResponseCreate(savedProject);
+    }
+
+    /**
+     * Cria vários projetos em uma única transação. Os itens são validados com as mesmas
+     * regras do cadastro individual, e os usuários e empresas referenciados são buscados
+     * com uma consulta para cada tipo. Itens inválidos não interrompem o lote e são reportados no resultado.
+     *
+     * @param projects Dados para criação dos projetos.
+     * @return Resultado por item, na ordem da requisição.
+     * @throws IllegalArgumentException se o lote for vazio ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkResult<ResponseCreateProjectDTO> createProjects(List<DataCreateProjectDTO> projects) {
+        BulkOperations.checkSize(projects);
+
+        Map<Integer, String> errors = new HashMap<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> companyIds = new HashSet<>();
+        for (int i = 0; i < projects.size(); i++) {
+            String violations = BulkOperations.validate(validator, projects.get(i));
+            if (violations != null) {
+                errors.put(i, violations);
+            } else {
+                userIds.add(projects.get(i).userId());
+                companyIds.add(projects.get(i).companyId());
+            }
+        }
+
+        Map<Long, User> users = userService.getUsersByIds(userIds);
+        Map<Long, Company> companies = companyService.getCompaniesByIds(companyIds);
+        Map<Integer, Project> newProjects = new LinkedHashMap<>();
+        for (int i = 0; i < projects.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            DataCreateProjectDTO project = projects.get(i);
+            User user = users.get(project.userId());
+            Company company = companies.get(project.companyId());
+            if (user == null) {
+                errors.put(i, "Usuário não encontrado com o ID: " + project.userId());
+            } else if (company == null) {
+                errors.put(i, "Empresa não encontrada com o ID: " + project.companyId());
+            } else {
+                newProjects.put(i, mapToEntityCreate(project, user, company));
+            }
+        }
+
+        projectRepository.saveAll(newProjects.values());
+        outboxService.recordAll(OutboxAggregate.PROJECT,
+                newProjects.values().stream().map(Project::getId).toList(), OutboxEventType.CREATED);
+        cacheInvalidationService.evictAll(CacheNames.COMPANIES,
+                newProjects.values().stream().map(project -> project.getCompany().getId()).collect(Collectors.toSet()));
+        logger.info("Lote de projetos processado. Cadastrados: {}, com erro: {}", newProjects.size(), errors.size());
+
+        List<ResponseBulkItem<ResponseCreateProjectDTO>> items = new ArrayList<>(projects.size());
+        for (int i = 0; i < projects.size(); i++) {
+            items.add(errors.containsKey(i)
+                    ? BulkOperations.failure(i, errors.get(i))
+                    : BulkOperations.success(i, mapToResponseCreate(newProjects.get(i))));
+        }
+        return BulkOperations.toResult(items);
+    }
+
+    /**
+     * Atualiza os dados de um projeto existente.
+     *
+     * @param id ID do projeto a ser atualizado.
+     * @param projectDetails Dados para atualização do projeto.
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return DTO com os detalhes do projeto atualizado.
+     * @throws UserNotFoundException se o usuário informado não for encontrado.
+     * @throws CompanyNotFoundException se a empresa informada não for encontrada.
+     * @throws PreconditionFailedException se o recurso não estiver mais na versão esperada.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECTS, key = "#id")
+    public ResponseDetailsProject updateProject(Long id, DataUpdateProject projectDetails, Set<Long> expectedVersions) {
+        Project project = projectRepository.findById(id).orElseThrow(
+                () -> new IllegalArgumentException("Projeto não encontrado com o ID: " + id));
+        ETags.requireVersion(id, expectedVersions, project.getVersion());
+
+        if (!project.getAtivo()) {
+            return null;
+        }
+
+        User user = projectDetails.userId() != null ? userService.getUserById(projectDetails.userId()) : null;
+        Company company = projectDetails.companyId() != null ? companyService.getCompanyOrThrow(projectDetails.companyId()) : null;
+
+        project.setName(projectDetails.name() != null ? projectDetails.name() : project.getName());
+        project.setDescription(projectDetails.description() != null ? projectDetails.description() : project.getDescription());
+        Long previousCompanyId = project.getCompany() != null ? project.getCompany().getId() : null;
+        if (user != null) project.setUser(user);
+        if (company != null) project.setCompany(company);
+
+        projectRepository.saveAndFlush(project);
+        outboxService.record(OutboxAggregate.PROJECT, id, OutboxEventType.UPDATED);
+        if (company != null && !company.getId().equals(previousCompanyId)) {
+            cacheInvalidationService.evict(CacheNames.COMPANIES, previousCompanyId);
+            cacheInvalidationService.evict(CacheNames.COMPANIES, company.getId());
+        }
+
+        return mapToResponseDetails(project);
+    }
+
+    /**
+     * Atualiza parcialmente um projeto com um único UPDATE, alterando apenas os campos informados.
+     *
+     * @param id               ID do projeto.
+     * @param dto              Campos a serem alterados (os nulos são ignorados).
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return ETag do projeto após a atualização.
+     * @throws EntityNotFoundException     se o projeto não for encontrado ou estiver inativo.
+     * @throws UserNotFoundException       se o usuário informado não for encontrado.
+     * @throws CompanyNotFoundException    se a empresa informada não for encontrada.
+     * @throws PreconditionFailedException se o projeto não estiver mais na versão esperada.
+     * @throws IllegalArgumentException    se nenhum campo for informado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECTS, key = "#id")
+    public String patchProject(Long id, DataUpdateProject dto, Set<Long> expectedVersions) {
+        if (dto.userId() != null) {
+            userService.getUserById(dto.userId());
+        }
+        if (dto.companyId() != null) {
+            companyService.getCompanyOrThrow(dto.companyId());
+        }
+        PatchResult result = entityPatchRepository.patchProject(id, dto, expectedVersions)
+                .orElseThrow(() -> entityPatchRepository.exists("projects", id)
+                        ? new PreconditionFailedException(id, expectedVersions)
+                        : new EntityNotFoundException("Projeto não encontrado com o ID: " + id));
+        outboxService.record(OutboxAggregate.PROJECT, id, OutboxEventType.UPDATED);
+        if (dto.companyId() != null && !dto.companyId().equals(result.previousCompanyId())) {
+            cacheInvalidationService.evict(CacheNames.COMPANIES, result.previousCompanyId());
+            cacheInvalidationService.evict(CacheNames.COMPANIES, dto.companyId());
+        }
+
+        logger.info("Projeto atualizado parcialmente com ID: {}", id);
+        return ETags.strong(result.versionTag());
+    }
+
+    /**
+     * Exclui logicamente um projeto pelo ID.
+     *
+     * @param id ID do projeto a ser excluído.
+     * @throws EntityNotFoundException se o projeto não for encontrado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.PROJECTS, key = "#id")
+    public void deleteProject(Long id) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado com o ID: " + id));
+
+        logger.info("Excluindo logicamente projeto com ID: {}", id);
+        project.setAtivo(false);
+        projectRepository.saveAndFlush(project);
+        outboxService.record(OutboxAggregate.PROJECT, id, OutboxEventType.DELETED);
+        logger.info("Projeto excluído logicamente com sucesso. ID: {}", id);
+    }
+
+    /**
+     * Exclui logicamente vários projetos com um único UPDATE.
+     *
+     * @param ids IDs dos projetos a serem excluídos.
+     * @return IDs excluídos e IDs ignorados (inexistentes ou já inativos).
+     * @throws IllegalArgumentException se a lista for vazia ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkUpdateDTO deleteProjects(List<Long> ids) {
+        Long[] requestedIds = BulkOperations.distinctIds(ids);
+        List<Long> deletedIds = projectRepository.deactivateByIds(requestedIds);
+        outboxService.recordAll(OutboxAggregate.PROJECT, deletedIds, OutboxEventType.DELETED);
+        cacheInvalidationService.evictAll(CacheNames.PROJECTS, deletedIds);
+
+        logger.info("Projetos excluídos logicamente em lote: {}", deletedIds.size());
+        return BulkOperations.toUpdateResult(requestedIds, deletedIds);
+    }
+
+    /**
+     * Obtém um projeto pelo ID.
+     *
+     * @param id ID do projeto.
+     * @return Entidade Project ou null se não encontrado.
+     */
+    public Project getProject(Long id) {
+        return projectRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Mapeia os dados de criação para uma nova entidade Project.
+     *
+     * @param project Dados de criação do projeto.
+     * @param user    Usuário responsável.
+     * @param company Empresa do projeto.
+     * @return Entidade Project.
+     */
+    private Project mapToEntityCreate(DataCreateProjectDTO project, User user, Company company) {
+        Project newProject = new Project();
+        newProject.setName(project.name());
+        newProject.setDescription(project.description());
+        newProject.setAtivo(true);
+        newProject.setUser(user);
+        newProject.setCreatedAt(LocalDateTime.now());
+        newProject.setCompany(company);
+        return newProject;
+    }
+
+    /**
+     * Mapeia uma entidade Project para um DTO de criação.
+     *
+     * @param project Entidade Project.
+     * @return DTO de criação do projeto.
+     */
+    private ResponseCreateProjectDTO mapToResponseCreate(Project project) {
+        return new ResponseCreateProjectDTO(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getAtivo(),
+                project.getUser().getId(),
+                project.getCompany().getId()
+        );
+    }
+
+    /**
+     * Mapeia uma entidade Project para um DTO de lista.
+     *
+     * @param project Entidade Project.
+     * @return DTO de lista de projetos.
+     */
+    private ResponseListProject mapToResponseList(Project project) {
+        return new ResponseListProject(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getAtivo(),
+                project.getUser().getId(),
+                project.getUser().getName(),
+                project.getCompany() != null ? project.getCompany().getId() : null,
+                project.getCompany() != null ? project.getCompany().getName() : null
+        );
+    }
+
+    /**
+     * Mapeia uma entidade Project para um DTO detalhado.
+     *
+     * @param project Entidade Project.
+     * @return DTO detalhado do projeto.
+     */
+    private ResponseDetailsProject mapToResponseDetails(Project project) {
+        return new ResponseDetailsProject(
+                project.getId(),
+                project.getName(),
+                project.getDescription(),
+                project.getAtivo(),
+                project.getUser().getId(),
+                project.getUser().getName(),
+                project.getCompany() != null ? project.getCompany().getId() : null,
+                project.getCompany() != null ? project.getCompany().getName() : null
+        );
+    }
+}
\ No newline at end of file
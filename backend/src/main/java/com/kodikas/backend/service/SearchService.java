@@ -0,0 +1,87 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.searchDTO.ResponseSearchResultDTO;
+import com.kodikas.backend.model.SearchType;
+import com.kodikas.backend.repository.SearchRepository;
+import com.kodikas.backend.repository.SearchRepository.SearchCursor;
+import com.kodikas.backend.util.CursorPagination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serviço de busca textual em aplicações, projetos e empresas.
+ */
+@Service
+public class SearchService {
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private final SearchRepository searchRepository;
+
+    public SearchService(SearchRepository searchRepository) {
+        this.searchRepository = searchRepository;
+    }
+
+    /**
+     * Busca registros cujo nome ou descrição contenham os termos informados, do mais para o menos relevante.
+     *
+     * @param query      Termos da busca (aceita aspas para frases, {@code or} e {@code -} para exclusão).
+     * @param types      Tipos de entidade a buscar ou null/vazio para todos.
+     * @param activeOnly Se true, retorna apenas registros ativos.
+     * @param after      Cursor da página anterior ou null para a primeira página.
+     * @param limit      Tamanho da página ou null para o padrão.
+     * @return Página de resultados ordenados por relevância.
+     * @throws IllegalArgumentException se a busca estiver vazia ou o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public ResponseCursorPage<ResponseSearchResultDTO> search(String query, Set<SearchType> types, boolean activeOnly,
+                                                              String after, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Informe os termos da busca.");
+        }
+        int pageSize = CursorPagination.resolveLimit(limit);
+        Set<SearchType> searchTypes = types == null || types.isEmpty() ? EnumSet.allOf(SearchType.class) : types;
+
+        List<ResponseSearchResultDTO> rows = searchRepository.search(
+                query.trim(), searchTypes, activeOnly, decodeCursor(after), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ResponseSearchResultDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        logger.debug("Busca por '{}' retornou {} resultados.", query, page.size());
+        return new ResponseCursorPage<>(page, nextCursor, pageSize);
+    }
+
+    /**
+     * Decodifica o cursor da busca, que guarda a relevância, o tipo e o ID do último resultado.
+     *
+     * @param cursor Cursor opaco ou null para a primeira página.
+     * @return Posição do último resultado ou null para a primeira página.
+     * @throws IllegalArgumentException se o cursor for inválido.
+     */
+    private static SearchCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new SearchCursor(Float.parseFloat(parts[0]), SearchType.valueOf(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+
+    private static String encodeCursor(ResponseSearchResultDTO last) {
+        String value = last.rank() + ":" + last.type().name() + ":" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,367 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.constants.CacheNames;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.userDTO.*;
+import com.kodikas.backend.exception.CompanyNotFoundException;
+import com.kodikas.backend.exception.PreconditionFailedException;
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.User;
+import com.kodikas.backend.outbox.OutboxAggregate;
+import com.kodikas.backend.outbox.OutboxEventType;
+import com.kodikas.backend.outbox.OutboxService;
+import com.kodikas.backend.repository.EntityPatchRepository;
+import com.kodikas.backend.repository.EntityPatchRepository.PatchResult;
+import com.kodikas.backend.repository.UserRepository;
+import com.kodikas.backend.util.BulkOperations;
+import com.kodikas.backend.util.CursorPagination;
+import com.kodikas.backend.util.ETags;
+import com.kodikas.backend.util.ETags.Tagged;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Serviço responsável por gerenciar as operações relacionadas aos usuários.
+ */
+@Service
+public class UserService {
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
+    private final UserRepository userRepository;
+    private final CompanyService companyService;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final NdjsonExportService ndjsonExportService;
+    private final EntityPatchRepository entityPatchRepository;
+    private final OutboxService outboxService;
+
+    /**
+     * Construtor para injetar dependências.
+     *
+     * @param userRepository           Repositório de usuários.
+     * @param companyService           Serviço de empresas.
+     * @param cacheInvalidationService Serviço de invalidação de cache.
+     * @param ndjsonExportService      Serviço de exportação em NDJSON.
+     * @param entityPatchRepository    Repositório de atualizações parciais.
+     * @param outboxService            Serviço de eventos de alteração (outbox).
+     */
+    public UserService(UserRepository userRepository, CompanyService companyService,
+                       CacheInvalidationService cacheInvalidationService,
+                       NdjsonExportService ndjsonExportService,
+                       EntityPatchRepository entityPatchRepository,
+                       OutboxService outboxService) {
+        this.userRepository = userRepository;
+        this.companyService = companyService;
+        this.cacheInvalidationService = cacheInvalidationService;
+        this.ndjsonExportService = ndjsonExportService;
+        this.entityPatchRepository = entityPatchRepository;
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Retorna uma página de usuários ativos, ordenados pelo ID.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return Página de usuários ativos, com o ETag lido no mesmo snapshot.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseCursorPage<ResponseListUsers>> getAllUsers(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        List<User> rows = userRepository.findByAtivoTrueAndIdGreaterThanOrderByIdAsc(
+                CursorPagination.decodeCursor(after), Limit.of(pageSize + 1));
+
+        ResponseCursorPage<ResponseListUsers> page = CursorPagination.toPage(rows, pageSize, User::getId, slice -> slice.stream()
+                .map(this::mapToResponse)
+                .toList());
+        return new Tagged<>(getUsersPageETag(after, limit), page);
+    }
+
+    /**
+     * Exporta todos os usuários ativos em NDJSON, lendo do banco em streaming com cursor no servidor.
+     * O uso de memória independe do tamanho da tabela.
+     *
+     * @param out Stream de saída da resposta.
+     * @throws IOException se ocorrer erro de escrita.
+     */
+    @Transactional(readOnly = true)
+    public void exportActiveUsers(OutputStream out) throws IOException {
+        try (Stream<ResponseListUsers> rows = userRepository.streamAllActive()) {
+            long count = ndjsonExportService.write(rows, out);
+            logger.info("Exportação de usuários concluída. Linhas: {}", count);
+        }
+    }
+
+    /**
+     * Calcula o ETag do usuário a partir das versões que compõem a resposta, sem carregá-lo.
+     *
+     * @param id ID do usuário.
+     * @return ETag forte ou null se o usuário não existir.
+     */
+    @Transactional(readOnly = true)
+    public String getUserETag(Long id) {
+        return userRepository.findVersionTagById(id).map(ETags::strong).orElse(null);
+    }
+
+    /**
+     * Calcula o ETag de uma página de usuários ativos a partir das versões das linhas da página,
+     * sem carregar as entidades nem serializar a resposta.
+     *
+     * @param after Cursor da página anterior ou null para a primeira página.
+     * @param limit Tamanho da página ou null para o padrão.
+     * @return ETag forte da página.
+     * @throws IllegalArgumentException se o cursor ou o limite forem inválidos.
+     */
+    @Transactional(readOnly = true)
+    public String getUsersPageETag(String after, Integer limit) {
+        int pageSize = CursorPagination.resolveLimit(limit);
+        return ETags.forPage(userRepository.findPageVersionHash(CursorPagination.decodeCursor(after), pageSize + 1));
+    }
+
+    /**
+     * Retorna os detalhes de um usuário pelo ID.
+     *
+     * @param id ID do usuário.
+     * @return Detalhes do usuário, com o ETag lido no mesmo snapshot.
+     * @throws UserNotFoundException se o usuário não for encontrado.
+     */
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#id")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Tagged<ResponseDetailUserDTO> getUser(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+
+        logger.info("Usuário encontrado com ID: {}", id);
+        return new Tagged<>(getUserETag(id), mapToDetailResponse(user));
+    }
+
+    /**
+     * Cria um novo usuário.
+     *
+     * @param dto Dados para criação do usuário.
+     * @return Detalhes do usuário criado.
+     */
+    @Transactional
+    public ResponseCreateUserDTO createUser(DataCreateUserDTO dto) {
+        User newUser = mapToEntityCreate(dto);
+        User savedUser = userRepository.save(newUser);
+        outboxService.record(OutboxAggregate.USER, savedUser.getId(), OutboxEventType.CREATED);
+
+        logger.info("Usuário criado com ID: {}", savedUser.getId());
+        return mapToResponseCreate(savedUser);
+    }
+
+    /**
+     * Atualiza os dados de um usuário existente.
+     *
+     * @param id  ID do usuário a ser atualizado.
+     * @param dto Dados para atualização do usuário.
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return Detalhes do usuário atualizado.
+     * @throws UserNotFoundException se o usuário não for encontrado.
+     * @throws PreconditionFailedException se o recurso não estiver mais na versão esperada.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#id")
+    public ResponseDetailUserDTO updateUser(Long id, DataUpdateUser dto, Set<Long> expectedVersions) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+        ETags.requireVersion(id, expectedVersions, user.getVersion());
+
+        Long previousCompanyId = user.getCompany() != null ? user.getCompany().getId() : null;
+        user.updateFrom(dto, companyService);
+        User updatedUser = userRepository.saveAndFlush(user);
+        outboxService.record(OutboxAggregate.USER, id, OutboxEventType.UPDATED);
+        cacheInvalidationService.evictUserDependents(List.of(id));
+        if (dto.companyId() != null && !dto.companyId().equals(previousCompanyId)) {
+            cacheInvalidationService.evict(CacheNames.COMPANIES, previousCompanyId);
+            cacheInvalidationService.evict(CacheNames.COMPANIES, dto.companyId());
+        }
+
+        logger.info("Usuário atualizado com ID: {}", updatedUser.getId());
+        return mapToDetailResponse(updatedUser);
+    }
+
+    /**
+     * Atualiza parcialmente um usuário com um único UPDATE, alterando apenas os campos informados.
+     *
+     * @param id               ID do usuário.
+     * @param dto              Campos a serem alterados (os nulos e {@code ativo} são ignorados).
+     * @param expectedVersions Versões aceitas pelo If-Match ou vazio para não verificar.
+     * @return ETag do usuário após a atualização.
+     * @throws UserNotFoundException       se o usuário não for encontrado ou estiver inativo.
+     * @throws CompanyNotFoundException    se a empresa informada não for encontrada.
+     * @throws PreconditionFailedException se o usuário não estiver mais na versão esperada.
+     * @throws IllegalArgumentException    se nenhum campo for informado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#id")
+    public String patchUser(Long id, DataUpdateUser dto, Set<Long> expectedVersions) {
+        if (dto.companyId() != null) {
+            companyService.getCompanyOrThrow(dto.companyId());
+        }
+        PatchResult result = entityPatchRepository.patchUser(id, dto, expectedVersions)
+                .orElseThrow(() -> entityPatchRepository.exists("users", id)
+                        ? new PreconditionFailedException(id, expectedVersions)
+                        : new UserNotFoundException(id));
+        outboxService.record(OutboxAggregate.USER, id, OutboxEventType.UPDATED);
+        cacheInvalidationService.evictUserDependents(List.of(id));
+        if (dto.companyId() != null && !dto.companyId().equals(result.previousCompanyId())) {
+            cacheInvalidationService.evict(CacheNames.COMPANIES, result.previousCompanyId());
+            cacheInvalidationService.evict(CacheNames.COMPANIES, dto.companyId());
+        }
+
+        logger.info("Usuário atualizado parcialmente com ID: {}", id);
+        return ETags.strong(result.versionTag());
+    }
+
+    /**
+     * Exclui logicamente um usuário pelo ID.
+     *
+     * @param id ID do usuário a ser excluído.
+     * @throws UserNotFoundException se o usuário não for encontrado.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.USERS, key = "#id")
+    public void deleteUser(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+
+        logger.info("Deletando usuário com ID: {}", id);
+        user.setAtivo(false);
+        userRepository.saveAndFlush(user);
+        outboxService.record(OutboxAggregate.USER, id, OutboxEventType.DELETED);
+        cacheInvalidationService.evictUserDependents(List.of(id));
+        logger.info("Usuário deletado com ID: {}", id);
+    }
+
+    /**
+     * Exclui logicamente vários usuários com um único UPDATE.
+     *
+     * @param ids IDs dos usuários a serem excluídos.
+     * @return IDs excluídos e IDs ignorados (inexistentes ou já inativos).
+     * @throws IllegalArgumentException se a lista for vazia ou exceder o tamanho máximo.
+     */
+    @Transactional
+    public ResponseBulkUpdateDTO deleteUsers(List<Long> ids) {
+        Long[] requestedIds = BulkOperations.distinctIds(ids);
+        List<Long> deletedIds = userRepository.deactivateByIds(requestedIds);
+        outboxService.recordAll(OutboxAggregate.USER, deletedIds, OutboxEventType.DELETED);
+        cacheInvalidationService.evictAll(CacheNames.USERS, deletedIds);
+        cacheInvalidationService.evictUserDependents(deletedIds);
+
+        logger.info("Usuários deletados em lote: {}", deletedIds.size());
+        return BulkOperations.toUpdateResult(requestedIds, deletedIds);
+    }
+
+    /**
+     * Obtém um usuário pelo ID.
+     *
+     * @param id ID do usuário.
+     * @return Entidade do usuário.
+     * @throws UserNotFoundException se o usuário não for encontrado.
+     */
+    public User getUserById(Long id) {
+        return userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+    }
+
+    /**
+     * Obtém vários usuários pelo ID com uma única consulta.
+     *
+     * @param ids IDs dos usuários.
+     * @return Mapa do ID para a entidade do usuário; IDs inexistentes ficam ausentes do mapa.
+     */
+    public Map<Long, User> getUsersByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    /**
+     * Mapeia um usuário para um DTO de resposta de lista.
+     *
+     * @param user Entidade do usuário.
+     * @return DTO de resposta de lista.
+     */
+    private ResponseListUsers mapToResponse(User user) {
+        return new ResponseListUsers(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getAtivo(),
+                user.getCompany() != null ? user.getCompany().getId() : null
+        );
+    }
+
+    /**
+     * Mapeia um usuário para um DTO de resposta detalhada.
+     *
+     * @param user Entidade do usuário.
+     * @return DTO de resposta detalhada.
+     */
+    private ResponseDetailUserDTO mapToDetailResponse(User user) {
+        return new ResponseDetailUserDTO(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getAtivo(),
+                user.getCompany() != null ? user.getCompany().getId() : null,
+                user.getCreatedAt() != null ? user.getCreatedAt().toString() : null
+        );
+    }
+
+    /**
+     * Mapeia um usuário para um DTO de resposta de criação.
+     *
+     * @param user Entidade do usuário.
+     * @return DTO de resposta de criação.
+     */
+    private ResponseCreateUserDTO mapToResponseCreate(User user) {
+        return new ResponseCreateUserDTO(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getAtivo(),
+                user.getCompany() != null ? user.getCompany().getId() : null,
+                user.getCreatedAt() != null ? user.getCreatedAt().toString() : null
+        );
+    }
+
+    /**
+     * Mapeia um DTO de criação para uma entidade de usuário.
+     *
+     * @param dto DTO de criação.
+     * @return Entidade de usuário.
+     */
+    private User mapToEntityCreate(DataCreateUserDTO dto) {
+        User user = new User();
+        user.setName(dto.name());
+        user.setEmail(dto.email());
+        user.setPassword(dto.password());
+        user.setAtivo(true);
+        user.setCreatedAt(java.time.LocalDateTime.now());
+        user.setCompany(null);
+        return user;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.kodikas.backend.util;
+
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkItem;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkResult;
+import com.kodikas.backend.dto.bulkDTO.ResponseBulkUpdateDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Utilitário para operações em lote, com validação por item e resultado por item.
+ */
+public final class BulkOperations {
+    public static final int MAX_ITEMS = 1000;
+
+    private BulkOperations() {
+    }
+
+    /**
+     * Verifica se a lista do lote não está vazia nem excede o tamanho máximo.
+     *
+     * @param items Itens do lote.
+     * @throws IllegalArgumentException se a lista for vazia ou maior que {@link #MAX_ITEMS}.
+     */
+    public static void checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("A lista do lote não pode estar vazia.");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("O lote deve ter no máximo " + MAX_ITEMS + " itens.");
+        }
+    }
+
+    /**
+     * Valida um item do lote com as mesmas regras do endpoint individual.
+     *
+     * @param validator Validador do Bean Validation.
+     * @param item      Item a ser validado.
+     * @return Mensagens de erro concatenadas ou null se o item for válido.
+     */
+    public static <T> String validate(Validator validator, T item) {
+        if (item == null) {
+            return "O item não pode ser nulo.";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    public static <T> ResponseBulkItem<T> success(int index, T data) {
+        return new ResponseBulkItem<>(index, true, data, null);
+    }
+
+    public static <T> ResponseBulkItem<T> failure(int index, String error) {
+        return new ResponseBulkItem<>(index, false, null, error);
+    }
+
+    /**
+     * Remove IDs repetidos preservando a ordem da requisição.
+     *
+     * @param ids IDs informados.
+     * @return IDs distintos, como array para o parâmetro {@code = ANY(?)} das consultas em lote.
+     * @throws IllegalArgumentException se a lista for vazia ou maior que {@link #MAX_ITEMS}.
+     */
+    public static Long[] distinctIds(List<Long> ids) {
+        checkSize(ids);
+        return ids.stream().distinct().toArray(Long[]::new);
+    }
+
+    /**
+     * Monta o resultado de uma atualização em lote a partir dos IDs retornados pelo banco.
+     *
+     * @param requestedIds IDs solicitados.
+     * @param updatedIds   IDs efetivamente alterados ({@code RETURNING id}).
+     * @return Resultado com os IDs alterados e os não alterados (inexistentes ou já inativos).
+     */
+    public static ResponseBulkUpdateDTO toUpdateResult(Long[] requestedIds, List<Long> updatedIds) {
+        Set<Long> updated = new HashSet<>(updatedIds);
+        List<Long> notUpdatedIds = Arrays.stream(requestedIds)
+                .filter(id -> !updated.contains(id))
+                .toList();
+        return new ResponseBulkUpdateDTO(updatedIds.size(), updatedIds, notUpdatedIds);
+    }
+
+    /**
+     * Consolida os resultados por item em um resultado do lote.
+     *
+     * @param items Resultados por item, na ordem da requisição.
+     * @return Resultado do lote com os totais.
+     */
+    public static <T> ResponseBulkResult<T> toResult(List<ResponseBulkItem<T>> items) {
+        int succeeded = (int) items.stream().filter(ResponseBulkItem::success).count();
+        return new ResponseBulkResult<>(items.size(), succeeded, items.size() - succeeded, items);
+    }
+}
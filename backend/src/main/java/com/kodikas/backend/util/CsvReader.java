@@ -0,0 +1,87 @@
+package com.kodikas.backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV em streaming (RFC 4180): campos separados por vírgula, campos entre aspas
+ * podem conter vírgulas, quebras de linha e aspas duplicadas ({@code ""}).
+ * Lê um registro por vez, sem carregar o arquivo inteiro em memória.
+ */
+public class CsvReader implements Closeable {
+    private final Reader reader;
+    private long currentLine = 1;
+    private long recordLine;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return Campos do registro ou null no fim do arquivo.
+     * @throws IOException se ocorrer erro de leitura ou houver aspas não fechadas.
+     */
+    public List<String> readRecord() throws IOException {
+        recordLine = currentLine;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Aspas não fechadas no registro iniciado na linha " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return Linha do arquivo (começando em 1) em que o último registro lido começa.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') {
+            currentLine++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,91 @@
+package com.kodikas.backend.util;
+
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utilitário para paginação por cursor (keyset) sobre a chave primária.
+ * O cursor é opaco para o cliente e codifica o último ID retornado.
+ */
+public final class CursorPagination {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private CursorPagination() {
+    }
+
+    /**
+     * Decodifica o cursor recebido do cliente.
+     *
+     * @param cursor Cursor opaco ou null para a primeira página.
+     * @return Último ID já entregue ao cliente (0 para a primeira página).
+     * @throws IllegalArgumentException se o cursor for inválido ou negativo.
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        long id;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            id = Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+        if (id < 0) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+        return id;
+    }
+
+    /**
+     * Codifica o último ID de uma página como cursor opaco.
+     *
+     * @param id Último ID da página.
+     * @return Cursor opaco.
+     */
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Resolve o tamanho da página solicitado, aplicando o padrão e o limite máximo.
+     *
+     * @param limit Tamanho solicitado ou null.
+     * @return Tamanho efetivo da página.
+     * @throws IllegalArgumentException se o tamanho for menor que 1.
+     */
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("O limite deve ser maior que zero.");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Monta a página a partir das linhas buscadas com {@code limit + 1} registros,
+     * usando o registro excedente apenas para saber se existe uma próxima página.
+     *
+     * @param rows        Linhas ordenadas pelo ID, com até {@code limit + 1} registros.
+     * @param limit       Tamanho efetivo da página.
+     * @param idExtractor Função que extrai o ID de uma linha.
+     * @param mapper      Função que converte as linhas da página no conteúdo da resposta.
+     * @return Página com o conteúdo e o cursor da próxima página (null se não houver).
+     */
+    public static <E, T> ResponseCursorPage<T> toPage(List<E> rows, int limit,
+                                                      Function<E, Long> idExtractor,
+                                                      Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encodeCursor(idExtractor.apply(page.get(page.size() - 1))) : null;
+        return new ResponseCursorPage<>(mapper.apply(page), nextCursor, limit);
+    }
+}
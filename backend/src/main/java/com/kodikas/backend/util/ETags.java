@@ -0,0 +1,171 @@
+package com.kodikas.backend.util;
+
+import com.kodikas.backend.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Monta os ETags fortes das respostas a partir das versões das entidades.
+ * <p>
+ * O ETag é consultado antes de a resposta ser carregada, só para decidir se cabe um 304. A resposta
+ * completa é enviada com o ETag lido no mesmo snapshot do corpo ({@link Tagged}), então o cliente
+ * nunca guarda um conteúdo com o ETag de outra versão, mesmo que as duas leituras caiam em réplicas
+ * diferentes ou que o corpo venha do cache; nunca recebe um 304 para um conteúdo que ele não tem.
+ */
+public final class ETags {
+    private static final String EMPTY_PAGE = "empty";
+
+    /**
+     * Corpo da resposta com o ETag lido no mesmo snapshot.
+     *
+     * @param etag ETag forte do corpo.
+     * @param body Corpo da resposta.
+     */
+    public record Tagged<T>(String etag, T body) {
+    }
+
+    private ETags() {
+    }
+
+    /**
+     * @param versions Versões que compõem o recurso, já concatenadas (ex.: {@code "3.7.2"}).
+     * @return ETag forte, entre aspas.
+     */
+    public static String strong(String versions) {
+        return "\"" + versions + "\"";
+    }
+
+    /**
+     * Extrai os ETags aceitos de um cabeçalho {@code If-Match}, que pode listar vários ETags
+     * separados por vírgula. O {@code If-Match} usa comparação forte, então ETags fracos são recusados.
+     *
+     * @param ifMatch Valor do cabeçalho {@code If-Match} ou null.
+     * @return Valores dos ETags aceitos, sem aspas, ou vazio se o cabeçalho estiver ausente ou for {@code *}.
+     * @throws IllegalArgumentException se algum item estiver vazio, mal delimitado por aspas ou for um ETag fraco.
+     */
+    public static Set<String> parseTags(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return Set.of();
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (String etag : ifMatch.split(",")) {
+            String value = etag.trim();
+            if (value.startsWith("W/")) {
+                throw new IllegalArgumentException("ETag fraco não é aceito no If-Match: " + value);
+            }
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.isEmpty() || value.contains("\"")) {
+                throw new IllegalArgumentException("Cabeçalho If-Match inválido: " + ifMatch);
+            }
+            tags.add(value);
+        }
+        return tags;
+    }
+
+    /**
+     * Extrai as versões aceitas de um cabeçalho {@code If-Match} (ver {@link #parseTags(String)}).
+     *
+     * @param ifMatch Valor do cabeçalho {@code If-Match} ou null.
+     * @return Versões aceitas ou vazio se o cabeçalho estiver ausente ou for {@code *}.
+     * @throws IllegalArgumentException se algum item não for um ETag forte emitido pela API.
+     */
+    public static Set<Long> parseVersions(String ifMatch) {
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : parseTags(ifMatch)) {
+            versions.add(parseVersion(tag));
+        }
+        return versions;
+    }
+
+    /**
+     * Extrai a versão própria do recurso de um ETag, ou seja, o primeiro componente
+     * (em {@code "5.3.2"}, a versão 5).
+     *
+     * @param etag ETag emitido pela API, com ou sem aspas.
+     * @return Versão do recurso.
+     * @throws IllegalArgumentException se o valor não for um ETag emitido pela API.
+     */
+    public static Long parseVersion(String etag) {
+        String value = etag.trim().replace("\"", "");
+        int separator = value.indexOf('.');
+        try {
+            return Long.parseLong(separator >= 0 ? value.substring(0, separator) : value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("ETag inválido no If-Match: " + etag);
+        }
+    }
+
+    /**
+     * Garante que o recurso ainda está em uma das versões informadas pelo cliente no {@code If-Match}.
+     *
+     * @param id               ID do recurso.
+     * @param expectedVersions Versões aceitas ou vazio para não verificar.
+     * @param currentVersion   Versão atual do recurso.
+     * @throws PreconditionFailedException se a versão atual não estiver entre as aceitas.
+     */
+    public static void requireVersion(Long id, Set<Long> expectedVersions, Long currentVersion) {
+        if (expectedVersions != null && !expectedVersions.isEmpty() && !expectedVersions.contains(currentVersion)) {
+            throw new PreconditionFailedException(id, expectedVersions);
+        }
+    }
+
+    /**
+     * Garante que o ETag atual do recurso está entre os informados pelo cliente no {@code If-Match}.
+     * Usado quando o ETag inclui mais do que versões, como os vínculos de uma empresa.
+     *
+     * @param id           ID do recurso.
+     * @param expectedTags Valores dos ETags aceitos, sem aspas, ou vazio para não verificar.
+     * @param currentTag   Valor do ETag atual do recurso, sem aspas.
+     * @throws PreconditionFailedException se o ETag atual não estiver entre os aceitos.
+     */
+    public static void requireTag(Long id, Set<String> expectedTags, String currentTag) {
+        if (expectedTags != null && !expectedTags.isEmpty() && !expectedTags.contains(currentTag)) {
+            throw new PreconditionFailedException(id, expectedTags);
+        }
+    }
+
+    /**
+     * Verifica se o cliente já tem o recurso na versão do ETag, pelo cabeçalho {@code If-None-Match}
+     * (aceita listas separadas por vírgula, ETags fracos e {@code *}).
+     * <p>
+     * Ao contrário de {@link WebRequest#checkNotModified(String)}, não escreve o ETag na resposta, que
+     * deve levar o ETag do corpo efetivamente enviado.
+     *
+     * @param request Requisição atual.
+     * @param etag    ETag atual do recurso ou null se ele não existir.
+     * @return true se a resposta pode ser um 304.
+     */
+    public static boolean isNotModified(WebRequest request, String etag) {
+        String[] headers = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (etag == null || headers == null) {
+            return false;
+        }
+        String current = opaque(etag);
+        for (String header : headers) {
+            for (String candidate : header.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || opaque(value).equals(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param hash Hash das versões das linhas da página ou null se a página estiver vazia.
+     * @return ETag forte da página.
+     */
+    public static String forPage(String hash) {
+        return strong(hash != null ? hash : EMPTY_PAGE);
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
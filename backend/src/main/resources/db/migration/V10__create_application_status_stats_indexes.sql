@@ -0,0 +1,5 @@
+-- Contagem de aplicações por status de um usuário: index-only scan sobre (user_id, status)
+CREATE INDEX idx_applications_user_status_active ON applications (user_id, status) WHERE ativo;
+
+-- Contagem por empresa: localiza os usuários da empresa antes de agregar as aplicações
+CREATE INDEX idx_users_company_id ON users (company_id);
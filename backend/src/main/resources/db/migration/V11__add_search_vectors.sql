@@ -0,0 +1,24 @@
+-- Vetores de busca textual mantidos pelo próprio banco; o nome pesa mais que a descrição no ranking
+ALTER TABLE applications
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE projects
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE companies
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_applications_search ON applications USING GIN (search_vector);
+
+CREATE INDEX idx_projects_search ON projects USING GIN (search_vector);
+
+CREATE INDEX idx_companies_search ON companies USING GIN (search_vector);
@@ -0,0 +1,11 @@
+-- Histórico somente de inserção; sem chaves estrangeiras para não bloquear as tabelas de origem nas inserções em lote
+CREATE TABLE application_status_history (
+                                            id BIGSERIAL PRIMARY KEY,
+                                            application_id BIGINT NOT NULL,
+                                            user_id BIGINT NOT NULL,
+                                            previous_status VARCHAR(50),
+                                            new_status VARCHAR(50) NOT NULL,
+                                            changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_application_status_history_application ON application_status_history (application_id, changed_at);
@@ -0,0 +1,8 @@
+-- Eventos de alteração gravados na mesma transação da escrita; removidos pelo relay após a publicação
+CREATE TABLE outbox_events (
+                               id BIGSERIAL PRIMARY KEY,
+                               aggregate_type VARCHAR(30) NOT NULL,
+                               aggregate_id BIGINT NOT NULL,
+                               event_type VARCHAR(30) NOT NULL,
+                               created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
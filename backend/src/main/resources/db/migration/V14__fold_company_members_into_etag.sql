@@ -0,0 +1,11 @@
+-- Os IDs dos usuários e projetos vinculados entram no ETag da empresa pela própria consulta do ETag
+-- (CompanyRepository), então a versão da empresa não precisa mais avançar a cada vínculo. Os triggers
+-- travavam a linha da empresa em todo INSERT/DELETE de usuário ou projeto e deixavam o @Version
+-- carregado pelo Hibernate desatualizado.
+DROP TRIGGER trg_users_company_version ON users;
+DROP TRIGGER trg_users_company_version_insert_delete ON users;
+DROP TRIGGER trg_projects_company_version ON projects;
+DROP TRIGGER trg_projects_company_version_insert_delete ON projects;
+DROP FUNCTION bump_company_version();
+
+CREATE INDEX idx_projects_company_id ON projects (company_id);
@@ -0,0 +1,2 @@
+-- Localiza os projetos ativos de um usuário para invalidar o cache deles quando o usuário muda
+CREATE INDEX idx_projects_user_id_active ON projects (user_id) WHERE ativo;
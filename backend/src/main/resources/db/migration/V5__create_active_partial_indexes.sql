@@ -0,0 +1,7 @@
+CREATE INDEX idx_companies_active_id ON companies (id) WHERE ativo;
+
+CREATE INDEX idx_users_active_id ON users (id) WHERE ativo;
+
+CREATE INDEX idx_projects_active_id ON projects (id) WHERE ativo;
+
+CREATE INDEX idx_applications_active_id ON applications (id) WHERE ativo;
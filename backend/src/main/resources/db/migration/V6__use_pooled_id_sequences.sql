@@ -0,0 +1,7 @@
+ALTER SEQUENCE companies_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE applications_id_seq INCREMENT BY 50;
@@ -0,0 +1,9 @@
+UPDATE applications
+SET status = CASE status
+                 WHEN '0' THEN 'PENDENTE'
+                 WHEN '1' THEN 'APROVADO'
+                 WHEN '2' THEN 'REJEITADO'
+                 WHEN '3' THEN 'CANCELADO'
+                 WHEN '4' THEN 'EM_PROCESSO'
+                 ELSE status
+    END;
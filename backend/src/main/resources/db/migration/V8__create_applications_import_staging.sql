@@ -0,0 +1,10 @@
+CREATE UNLOGGED TABLE applications_import_staging (
+                                                      import_id UUID NOT NULL,
+                                                      line_number BIGINT NOT NULL,
+                                                      name VARCHAR(100) NOT NULL,
+                                                      description TEXT NOT NULL,
+                                                      status VARCHAR(50) NOT NULL,
+                                                      user_id INTEGER NOT NULL
+);
+
+CREATE INDEX idx_applications_import_staging_import_id ON applications_import_staging (import_id);
@@ -0,0 +1,47 @@
+ALTER TABLE companies
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE users
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE projects
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE applications
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- A resposta de uma empresa inclui os IDs dos usuários e projetos vinculados, então a versão
+-- da empresa também avança quando um vínculo é criado, alterado ou removido.
+CREATE FUNCTION bump_company_version() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.company_id IS NOT NULL THEN
+        UPDATE companies SET version = version + 1 WHERE id = OLD.company_id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.company_id IS NOT NULL THEN
+        UPDATE companies SET version = version + 1 WHERE id = NEW.company_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_company_version
+    AFTER UPDATE OF company_id ON users
+    FOR EACH ROW
+    WHEN (OLD.company_id IS DISTINCT FROM NEW.company_id)
+    EXECUTE FUNCTION bump_company_version();
+
+CREATE TRIGGER trg_users_company_version_insert_delete
+    AFTER INSERT OR DELETE ON users
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_company_version();
+
+CREATE TRIGGER trg_projects_company_version
+    AFTER UPDATE OF company_id ON projects
+    FOR EACH ROW
+    WHEN (OLD.company_id IS DISTINCT FROM NEW.company_id)
+    EXECUTE FUNCTION bump_company_version();
+
+CREATE TRIGGER trg_projects_company_version_insert_delete
+    AFTER INSERT OR DELETE ON projects
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_company_version();
@@ -0,0 +1,31 @@
+package com.kodikas.backend.reactive.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Mantém o DataSource JDBC usado pelo JPA e pelo Flyway no perfil reativo.
+ * <p>
+ * O Spring Boot não configura o DataSource JDBC quando existe uma {@code ConnectionFactory}
+ * do R2DBC no contexto, então ele é criado aqui a partir das mesmas propriedades
+ * {@code spring.datasource.*} do caminho de escrita. Com o roteamento para réplicas ligado, o
+ * DataSource vem de {@code DataSourceRoutingConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kodikas.datasource.routing.enabled", havingValue = "false", matchIfMissing = true)
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class JdbcDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
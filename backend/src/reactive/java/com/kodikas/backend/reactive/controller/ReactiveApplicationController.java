@@ -0,0 +1,53 @@
+package com.kodikas.backend.reactive.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseDetailByIdDTO;
+import com.kodikas.backend.reactive.repository.ReactiveReadRepository;
+import com.kodikas.backend.util.CursorPagination;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador de leitura reativa de aplicações, disponível apenas no perfil Maven {@code reactive}.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/reactive/applcations")
+public class ReactiveApplicationController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveApplicationController(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    /**
+     * Transmite aplicações ativas em NDJSON, respeitando o ritmo de consumo do cliente.
+     *
+     * @param after Cursor retornado pela listagem paginada (opcional).
+     * @param limit Quantidade máxima de aplicações (opcional; mesmo padrão e máximo da listagem paginada).
+     * @return Fluxo de aplicações ativas.
+     */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseCreateApplicationDTO> getAllActiveApplications(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return reactiveReadRepository.streamActiveApplications(CursorPagination.decodeCursor(after), limit);
+    }
+
+    /**
+     * Retorna uma aplicação pelo ID.
+     *
+     * @param id ID da aplicação.
+     * @return Detalhes da aplicação ou 404 se não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseDetailByIdDTO>> getApplicationById(@PathVariable Long id) {
+        return reactiveReadRepository.findApplicationById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,52 @@
+package com.kodikas.backend.reactive.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.reactive.repository.ReactiveReadRepository;
+import com.kodikas.backend.util.CursorPagination;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador de leitura reativa de empresas, disponível apenas no perfil Maven {@code reactive}.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/reactive/companies")
+public class ReactiveCompanyController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveCompanyController(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    /**
+     * Transmite empresas ativas em NDJSON, respeitando o ritmo de consumo do cliente.
+     *
+     * @param after Cursor retornado pela listagem paginada (opcional).
+     * @param limit Quantidade máxima de empresas (opcional; mesmo padrão e máximo da listagem paginada).
+     * @return Fluxo de empresas ativas.
+     */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseCreateCompany> getAllActiveCompanies(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return reactiveReadRepository.streamActiveCompanies(CursorPagination.decodeCursor(after), limit);
+    }
+
+    /**
+     * Retorna uma empresa pelo ID.
+     *
+     * @param id ID da empresa.
+     * @return Detalhes da empresa ou 404 se não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseCreateCompany>> getCompanyById(@PathVariable Long id) {
+        return reactiveReadRepository.findCompanyById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
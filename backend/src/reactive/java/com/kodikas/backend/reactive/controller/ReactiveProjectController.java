@@ -0,0 +1,53 @@
+package com.kodikas.backend.reactive.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.projectsDTO.ResponseDetailsProject;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.reactive.repository.ReactiveReadRepository;
+import com.kodikas.backend.util.CursorPagination;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador de leitura reativa de projetos, disponível apenas no perfil Maven {@code reactive}.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/reactive/projects")
+public class ReactiveProjectController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveProjectController(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    /**
+     * Transmite projetos ativos em NDJSON, respeitando o ritmo de consumo do cliente.
+     *
+     * @param after Cursor retornado pela listagem paginada (opcional).
+     * @param limit Quantidade máxima de projetos (opcional; mesmo padrão e máximo da listagem paginada).
+     * @return Fluxo de projetos ativos.
+     */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseListProject> getAllActiveProjects(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return reactiveReadRepository.streamActiveProjects(CursorPagination.decodeCursor(after), limit);
+    }
+
+    /**
+     * Retorna um projeto pelo ID.
+     *
+     * @param id ID do projeto.
+     * @return Detalhes do projeto ou 404 se não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseDetailsProject>> getProjectById(@PathVariable Long id) {
+        return reactiveReadRepository.findProjectById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
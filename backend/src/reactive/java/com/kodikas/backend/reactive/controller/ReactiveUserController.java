@@ -0,0 +1,53 @@
+package com.kodikas.backend.reactive.controller;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.userDTO.ResponseDetailUserDTO;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.reactive.repository.ReactiveReadRepository;
+import com.kodikas.backend.util.CursorPagination;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador de leitura reativa de usuários, disponível apenas no perfil Maven {@code reactive}.
+ */
+@RestController
+@RequestMapping(ApiPaths.API_V1 + "/reactive/users")
+public class ReactiveUserController {
+
+    private final ReactiveReadRepository reactiveReadRepository;
+
+    public ReactiveUserController(ReactiveReadRepository reactiveReadRepository) {
+        this.reactiveReadRepository = reactiveReadRepository;
+    }
+
+    /**
+     * Transmite usuários ativos em NDJSON, respeitando o ritmo de consumo do cliente.
+     *
+     * @param after Cursor retornado pela listagem paginada (opcional).
+     * @param limit Quantidade máxima de usuários (opcional; mesmo padrão e máximo da listagem paginada).
+     * @return Fluxo de usuários ativos.
+     */
+    @GetMapping(value = "/list", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseListUsers> getAllActiveUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return reactiveReadRepository.streamActiveUsers(CursorPagination.decodeCursor(after), limit);
+    }
+
+    /**
+     * Retorna um usuário pelo ID.
+     *
+     * @param id ID do usuário.
+     * @return Detalhes do usuário ou 404 se não existir.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ResponseDetailUserDTO>> getUserById(@PathVariable Long id) {
+        return reactiveReadRepository.findUserById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
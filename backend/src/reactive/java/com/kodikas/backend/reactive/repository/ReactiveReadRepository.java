@@ -0,0 +1,209 @@
+package com.kodikas.backend.reactive.repository;
+
+import com.kodikas.backend.constants.ExportConstants;
+import com.kodikas.backend.dto.applicationsDTO.ResponseCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.ResponseDetailByIdDTO;
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.dto.projectsDTO.ResponseDetailsProject;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.dto.userDTO.ResponseDetailUserDTO;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.model.ApplicationStatus;
+import com.kodikas.backend.util.CursorPagination;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Consultas somente leitura via R2DBC, sobre o mesmo schema mantido pelo Flyway.
+ * <p>
+ * As listagens são lidas em lotes de {@link ExportConstants#FETCH_SIZE} linhas, então o banco
+ * só entrega novas linhas conforme o cliente consome a resposta.
+ */
+@Repository
+public class ReactiveReadRepository {
+    private static final int FETCH_SIZE = Integer.parseInt(ExportConstants.FETCH_SIZE);
+
+    private static final String USER_COLUMNS = """
+            SELECT CAST(u.id AS BIGINT) AS id, u.name, u.email, u.ativo,
+                   CAST(u.company_id AS BIGINT) AS company_id, u.created_at
+            FROM users u
+            """;
+
+    private static final String PROJECT_COLUMNS = """
+            SELECT CAST(p.id AS BIGINT) AS id, p.name, p.description, p.ativo,
+                   CAST(u.id AS BIGINT) AS user_id, u.name AS user_name,
+                   CAST(c.id AS BIGINT) AS company_id, c.name AS company_name
+            FROM projects p
+            JOIN users u ON u.id = p.user_id
+            LEFT JOIN companies c ON c.id = p.company_id
+            """;
+
+    private static final String COMPANY_COLUMNS = """
+            SELECT CAST(c.id AS BIGINT) AS id, c.name, c.description, c.created_at, c.ativo,
+                   ARRAY(SELECT CAST(u.id AS BIGINT) FROM users u WHERE u.company_id = c.id ORDER BY u.id) AS users_ids,
+                   ARRAY(SELECT CAST(p.id AS BIGINT) FROM projects p WHERE p.company_id = c.id ORDER BY p.id) AS projects_ids
+            FROM companies c
+            """;
+
+    private static final String APPLICATION_COLUMNS = """
+            SELECT CAST(a.id AS BIGINT) AS id, a.name, a.description, a.status,
+                   CAST(u.id AS BIGINT) AS user_id, u.name AS user_name
+            FROM applications a
+            JOIN users u ON u.id = a.user_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<ResponseListUsers> streamActiveUsers(Long afterId, Integer limit) {
+        return streamActive(USER_COLUMNS + "WHERE u.ativo AND u.id > :afterId ORDER BY u.id",
+                afterId, limit, this::toListUser);
+    }
+
+    public Mono<ResponseDetailUserDTO> findUserById(Long id) {
+        return findById(USER_COLUMNS + "WHERE u.id = :id", id, this::toDetailUser);
+    }
+
+    public Flux<ResponseListProject> streamActiveProjects(Long afterId, Integer limit) {
+        return streamActive(PROJECT_COLUMNS + "WHERE p.ativo AND p.id > :afterId ORDER BY p.id",
+                afterId, limit, this::toListProject);
+    }
+
+    public Mono<ResponseDetailsProject> findProjectById(Long id) {
+        return findById(PROJECT_COLUMNS + "WHERE p.id = :id", id, this::toDetailProject);
+    }
+
+    public Flux<ResponseCreateCompany> streamActiveCompanies(Long afterId, Integer limit) {
+        return streamActive(COMPANY_COLUMNS + "WHERE c.ativo AND c.id > :afterId ORDER BY c.id",
+                afterId, limit, this::toCompany);
+    }
+
+    public Mono<ResponseCreateCompany> findCompanyById(Long id) {
+        return findById(COMPANY_COLUMNS + "WHERE c.id = :id", id, this::toCompany);
+    }
+
+    public Flux<ResponseCreateApplicationDTO> streamActiveApplications(Long afterId, Integer limit) {
+        return streamActive(APPLICATION_COLUMNS + "WHERE a.ativo AND a.id > :afterId ORDER BY a.id",
+                afterId, limit, this::toListApplication);
+    }
+
+    public Mono<ResponseDetailByIdDTO> findApplicationById(Long id) {
+        return findById(APPLICATION_COLUMNS + "WHERE a.id = :id", id, this::toDetailApplication);
+    }
+
+    private <T> Flux<T> streamActive(String sql, Long afterId, Integer limit, Function<Readable, T> mapper) {
+        return databaseClient.sql(sql + " LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", CursorPagination.resolveLimit(limit))
+                .filter(statement -> statement.fetchSize(FETCH_SIZE))
+                .map(mapper)
+                .all();
+    }
+
+    private <T> Mono<T> findById(String sql, Long id, Function<Readable, T> mapper) {
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(mapper)
+                .one();
+    }
+
+    private ResponseListUsers toListUser(Readable row) {
+        return new ResponseListUsers(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("ativo", Boolean.class),
+                row.get("company_id", Long.class)
+        );
+    }
+
+    private ResponseDetailUserDTO toDetailUser(Readable row) {
+        return new ResponseDetailUserDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("email", String.class),
+                row.get("ativo", Boolean.class),
+                row.get("company_id", Long.class),
+                toText(row.get("created_at", LocalDateTime.class))
+        );
+    }
+
+    private ResponseListProject toListProject(Readable row) {
+        return new ResponseListProject(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("ativo", Boolean.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("company_id", Long.class),
+                row.get("company_name", String.class)
+        );
+    }
+
+    private ResponseDetailsProject toDetailProject(Readable row) {
+        return new ResponseDetailsProject(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("ativo", Boolean.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class),
+                row.get("company_id", Long.class),
+                row.get("company_name", String.class)
+        );
+    }
+
+    private ResponseCreateCompany toCompany(Readable row) {
+        return new ResponseCreateCompany(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                toText(row.get("created_at", LocalDateTime.class)),
+                row.get("ativo", Boolean.class),
+                toList(row.get("users_ids", Long[].class)),
+                toList(row.get("projects_ids", Long[].class))
+        );
+    }
+
+    private ResponseCreateApplicationDTO toListApplication(Readable row) {
+        return new ResponseCreateApplicationDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                ApplicationStatus.valueOf(row.get("status", String.class)),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class)
+        );
+    }
+
+    private ResponseDetailByIdDTO toDetailApplication(Readable row) {
+        return new ResponseDetailByIdDTO(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("status", String.class),
+                row.get("user_id", Long.class),
+                row.get("user_name", String.class)
+        );
+    }
+
+    private static String toText(LocalDateTime value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static List<Long> toList(Long[] values) {
+        return values != null ? Arrays.asList(values) : List.of();
+    }
+}
@@ -0,0 +1,119 @@
+package com.kodikas.backend.config;
+
+import com.kodikas.backend.dto.userDTO.DataCreateUserDTO;
+import com.kodikas.backend.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Roteamento de leitura e escrita com duas instâncias locais do Postgres: a réplica vem de
+ * {@code KODIKAS_REPLICA_URL} e, sem ela, é o próprio primário (atraso zero).
+ */
+@SpringBootTest(properties = {
+        "kodikas.datasource.routing.enabled=true",
+        "kodikas.datasource.replicas[0].url=${KODIKAS_REPLICA_URL:${spring.datasource.url}}",
+        "kodikas.outbox.relay.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ReadReplicas readReplicas;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        readReplicas.checkLag();
+        double primaryBefore = routed(ReadWriteRoutingDataSource.PRIMARY);
+        double replicaBefore = routed("replica-0");
+
+        userService.createUser(new DataCreateUserDTO("Roteamento", "routing-" + System.nanoTime() + "@kodikas.test", "senha"));
+        assertEquals(primaryBefore + 1, routed(ReadWriteRoutingDataSource.PRIMARY));
+        assertEquals(replicaBefore, routed("replica-0"));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Boolean replicaConnectionIsReadOnly = readOnly.execute(status ->
+                jdbcTemplate.queryForObject("SELECT current_setting('transaction_read_only') = 'on'", Boolean.class));
+        assertEquals(Boolean.TRUE, replicaConnectionIsReadOnly);
+        assertEquals(replicaBefore + 1, routed("replica-0"));
+    }
+
+    @Test
+    void etagAlwaysMatchesTheBodyItIsSentWith() throws Exception {
+        Long id = userService.createUser(new DataCreateUserDTO(
+                "Antes", "etag-" + System.nanoTime() + "@kodikas.test", "senha")).id();
+
+        String first = mockMvc.perform(get("/api/v1/users/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Antes"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(first);
+        mockMvc.perform(get("/api/v1/users/" + id).header(HttpHeaders.IF_NONE_MATCH, first))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(patch("/api/v1/users/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Depois\"}"))
+                .andExpect(status().isNoContent());
+
+        String second = mockMvc.perform(get("/api/v1/users/" + id).header(HttpHeaders.IF_NONE_MATCH, first))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Depois"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(first, second);
+        assertEquals(userService.getUserETag(id), second);
+    }
+
+    @Test
+    void unreachableReplicaLeavesRotationAndReadsFallBackToPrimary() {
+        HikariDataSource unreachable = new HikariDataSource();
+        unreachable.setJdbcUrl("jdbc:postgresql://127.0.0.1:1/kodikas_db");
+        unreachable.setConnectionTimeout(250);
+        unreachable.setInitializationFailTimeout(-1);
+        ReadReplicas replicas = new ReadReplicas(List.of(unreachable), 1_000, new SimpleMeterRegistry());
+        try {
+            assertEquals("replica-0", replicas.nextAvailableKey());
+            replicas.checkLag();
+            assertNull(replicas.nextAvailableKey());
+        } finally {
+            replicas.destroy();
+        }
+    }
+
+    private double routed(String pool) {
+        return meterRegistry.get("kodikas.datasource.routed").tag("pool", pool).counter().count();
+    }
+}
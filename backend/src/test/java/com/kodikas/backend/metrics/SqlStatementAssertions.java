@@ -0,0 +1,45 @@
+package com.kodikas.backend.metrics;
+
+/**
+ * Utilitário de teste para garantir que um trecho de código (por exemplo, uma chamada via MockMvc
+ * a um endpoint) execute no máximo N comandos SQL, evitando que padrões N+1 voltem aos serviços.
+ * <pre>{@code
+ * SqlStatementAssertions.assertMaxStatements(3, () ->
+ *         mockMvc.perform(get("/api/v1/companies/list")).andExpect(status().isOk()));
+ * }</pre>
+ * Depende do {@link SqlCountingDataSourcePostProcessor} estar ativo no contexto do teste e de o código
+ * rodar na mesma thread do teste (como acontece com o MockMvc). Corpos assíncronos, como a exportação
+ * NDJSON e o stream SSE, rodam em outra thread e não são contados.
+ */
+public final class SqlStatementAssertions {
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Executa o trecho e falha se ele executar mais de {@code max} comandos SQL.
+     *
+     * @param max    Quantidade máxima de comandos permitida.
+     * @param action Trecho a ser executado.
+     * @return Estatísticas dos comandos executados, para verificações adicionais.
+     * @throws Exception se o trecho lançar uma exceção.
+     */
+    public static SqlStatementStats assertMaxStatements(int max, ThrowingRunnable action) throws Exception {
+        SqlStatementStats stats = SqlStatementCounter.begin();
+        try {
+            action.run();
+        } finally {
+            SqlStatementCounter.end(stats);
+        }
+        if (stats.getStatementCount() > max) {
+            throw new AssertionError("Esperados no máximo " + max + " comandos SQL, mas foram executados "
+                    + stats.getStatementCount() + ": " + stats.getShapeCounts());
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,104 @@
+package com.kodikas.backend.metrics;
+
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.applicationsDTO.DataCreateApplicationDTO;
+import com.kodikas.backend.dto.companiesDTO.DataCreateCompanyDTO;
+import com.kodikas.backend.dto.projectsDTO.DataCreateProjectDTO;
+import com.kodikas.backend.dto.userDTO.DataCreateUserDTO;
+import com.kodikas.backend.dto.userDTO.DataUpdateUser;
+import com.kodikas.backend.model.ApplicationStatus;
+import com.kodikas.backend.service.ApplicationService;
+import com.kodikas.backend.service.CompanyService;
+import com.kodikas.backend.service.ProjectService;
+import com.kodikas.backend.service.UserService;
+import com.kodikas.backend.util.CursorPagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kodikas.backend.metrics.SqlStatementAssertions.assertMaxStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Limita a quantidade de comandos SQL das listagens e dos detalhes. As páginas têm cinco linhas, cada
+ * uma ligada a um usuário e a uma empresa diferentes, então um carregamento N+1 estoura o limite.
+ */
+@SpringBootTest(properties = "kodikas.outbox.relay.enabled=false")
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    private final List<Long> companyIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> applicationIds = new ArrayList<>();
+
+    @BeforeEach
+    void createRows() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String suffix = System.nanoTime() + "-" + i;
+            Long companyId = companyService.createCompany(new DataCreateCompanyDTO("Empresa " + suffix, "Orçamento de SQL")).id();
+            Long userId = userService.createUser(new DataCreateUserDTO("Usuário " + suffix, "budget-" + suffix + "@kodikas.test", "senha")).id();
+            userService.updateUser(userId, new DataUpdateUser(null, null, null, companyId), null);
+            projectIds.add(projectService.createProject(new DataCreateProjectDTO("Projeto " + suffix, "Orçamento de SQL", userId, companyId)).id());
+            applicationIds.add(applicationService.createApplication(new DataCreateApplicationDTO(
+                    "Aplicação " + suffix, "Orçamento de SQL", ApplicationStatus.values()[0], userId)).id());
+            companyIds.add(companyId);
+            userIds.add(userId);
+        }
+    }
+
+    @Test
+    void listEndpointsRunAFixedNumberOfStatements() throws Exception {
+        // ETag para o If-None-Match + página + hash das versões lido com ela; empresas também buscam os membros
+        assertListBudget("/companies", companyIds, 4);
+        assertListBudget("/users", userIds, 3);
+        assertListBudget("/projects", projectIds, 3);
+        assertListBudget("/applcations", applicationIds, 3);
+    }
+
+    @Test
+    void detailEndpointsRunAFixedNumberOfStatements() throws Exception {
+        // ETag para o If-None-Match + entidade com as associações + versões lidas com ela; empresas também buscam os membros
+        assertDetailBudget("/companies", companyIds.get(0), 4);
+        assertDetailBudget("/users", userIds.get(0), 3);
+        assertDetailBudget("/projects", projectIds.get(0), 3);
+        assertDetailBudget("/applcations", applicationIds.get(0), 3);
+    }
+
+    private void assertListBudget(String resource, List<Long> ids, int max) throws Exception {
+        String after = CursorPagination.encodeCursor(ids.get(0) - 1);
+        assertMaxStatements(max, () -> mockMvc.perform(get(ApiPaths.API_V1 + resource + "/list")
+                        .param("after", after)
+                        .param("limit", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk()));
+    }
+
+    private void assertDetailBudget(String resource, Long id, int max) throws Exception {
+        assertMaxStatements(max, () -> mockMvc.perform(get(ApiPaths.API_V1 + resource + "/" + id))
+                .andExpect(status().isOk()));
+    }
+}
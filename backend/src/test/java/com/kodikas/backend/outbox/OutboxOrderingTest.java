@@ -0,0 +1,106 @@
+package com.kodikas.backend.outbox;
+
+import com.kodikas.backend.dto.userDTO.DataCreateUserDTO;
+import com.kodikas.backend.dto.userDTO.DataUpdateUser;
+import com.kodikas.backend.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Garante que eventos de uma mesma entidade recebem IDs no outbox na ordem dos commits, que é a
+ * ordem em que o {@link OutboxRelay} os publica.
+ */
+@SpringBootTest(properties = "kodikas.outbox.relay.enabled=false")
+class OutboxOrderingTest {
+
+    private static final String CURRENT_OUTBOX_ID_SQL = "SELECT currval(pg_get_serial_sequence('outbox_events', 'id'))";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentWritesToSameEntityAreRecordedInCommitOrder() throws Exception {
+        Long userId = userService.createUser(new DataCreateUserDTO(
+                "Outbox", "outbox-" + System.nanoTime() + "@kodikas.test", "senha")).id();
+
+        List<Long> committedOutboxIds = new CopyOnWriteArrayList<>();
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                userService.updateUser(userId, new DataUpdateUser("Primeira", null, null, null), null);
+                trackCommit(committedOutboxIds);
+                firstRecorded.countDown();
+                awaitQuietly(releaseFirst);
+            }));
+            assertTrue(firstRecorded.await(10, TimeUnit.SECONDS));
+
+            // O evento já tem ID, então a linha do usuário precisa estar bloqueada por esta transação
+            assertThrows(DataAccessException.class, () -> jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id = ? FOR UPDATE NOWAIT", userId));
+
+            Future<?> second = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                userService.patchUser(userId, new DataUpdateUser("Segunda", null, null, null), null);
+                trackCommit(committedOutboxIds);
+            }));
+            assertThrows(TimeoutException.class, () -> second.get(500, TimeUnit.MILLISECONDS),
+                    "A segunda escrita não pode gravar seu evento antes do commit da primeira");
+
+            releaseFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+
+        List<Long> outboxIds = jdbcTemplate.queryForList("""
+                SELECT id FROM outbox_events
+                WHERE aggregate_type = 'USER' AND aggregate_id = ? AND event_type = 'UPDATED'
+                ORDER BY id
+                """, Long.class, userId);
+        assertEquals(2, committedOutboxIds.size());
+        assertEquals(committedOutboxIds, outboxIds);
+
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE aggregate_type = 'USER' AND aggregate_id = ?", userId);
+    }
+
+    /**
+     * Guarda o ID do evento gravado pela transação atual quando ela for confirmada.
+     */
+    private void trackCommit(List<Long> committedOutboxIds) {
+        Long outboxId = jdbcTemplate.queryForObject(CURRENT_OUTBOX_ID_SQL, Long.class);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedOutboxIds.add(outboxId);
+            }
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
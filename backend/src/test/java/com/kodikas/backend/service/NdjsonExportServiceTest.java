@@ -0,0 +1,52 @@
+package com.kodikas.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Confere os bytes exatos do NDJSON: um objeto por linha, sem separador entre os valores.
+ */
+class NdjsonExportServiceTest {
+
+    private final NdjsonExportService service = new NdjsonExportService(new ObjectMapper());
+
+    @Test
+    void writesOneObjectPerLineWithoutRootSeparator() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.write(Stream.of(Map.of("id", 0), Map.of("id", 1), Map.of("id", 2)), out);
+
+        assertEquals(3, count);
+        assertArrayEquals("{\"id\":0}\n{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    void writesNothingForEmptyStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, service.write(Stream.empty(), out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void keepsLinesIntactAcrossFlushes() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.write(IntStream.range(0, 2500).mapToObj(id -> Map.of("id", id)), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2500, count);
+        assertEquals(2501, lines.length);
+        assertEquals("{\"id\":999}", lines[999]);
+        assertEquals("{\"id\":1000}", lines[1000]);
+        assertEquals("", lines[2500]);
+    }
+}
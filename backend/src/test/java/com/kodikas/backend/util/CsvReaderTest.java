@@ -0,0 +1,73 @@
+package com.kodikas.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cobre os casos da RFC 4180 aceitos pelo {@link CsvReader}: campos entre aspas com vírgulas,
+ * quebras de linha e aspas duplicadas, além da linha de início de cada registro.
+ */
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecordsAndEmptyFields() throws IOException {
+        try (CsvReader reader = reader("name,description,status\nA,,PENDENTE\n,x,\n")) {
+            assertEquals(List.of("name", "description", "status"), reader.readRecord());
+            assertEquals(List.of("A", "", "PENDENTE"), reader.readRecord());
+            assertEquals(List.of("", "x", ""), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void keepsCommasInsideQuotedFields() throws IOException {
+        try (CsvReader reader = reader("\"Silva, Ana\",\"a,b,c\",3")) {
+            assertEquals(List.of("Silva, Ana", "a,b,c", "3"), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void keepsLineBreaksInsideQuotedFieldsAndTracksRecordLines() throws IOException {
+        try (CsvReader reader = reader("1,\"primeira\nsegunda\"\n2,fim\n")) {
+            assertEquals(List.of("1", "primeira\nsegunda"), reader.readRecord());
+            assertEquals(1, reader.getRecordLine());
+            assertEquals(List.of("2", "fim"), reader.readRecord());
+            assertEquals(3, reader.getRecordLine());
+        }
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        try (CsvReader reader = reader("\"diz \"\"oi\"\"\",\"\"\"\",\"\"")) {
+            assertEquals(List.of("diz \"oi\"", "\"", ""), reader.readRecord());
+        }
+    }
+
+    @Test
+    void acceptsCrLfLineEndings() throws IOException {
+        try (CsvReader reader = reader("a,b\r\n\"c\r\nd\",e\r\n")) {
+            assertEquals(List.of("a", "b"), reader.readRecord());
+            assertEquals(List.of("c\r\nd", "e"), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+    }
+
+    @Test
+    void rejectsUnclosedQuotes() throws IOException {
+        try (CsvReader reader = reader("ok\n\"sem fim,\nx")) {
+            assertEquals(List.of("ok"), reader.readRecord());
+            IOException error = assertThrows(IOException.class, reader::readRecord);
+            assertTrue(error.getMessage().contains("linha 2"));
+        }
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new StringReader(content));
+    }
+}
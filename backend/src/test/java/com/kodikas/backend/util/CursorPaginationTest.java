@@ -0,0 +1,75 @@
+package com.kodikas.backend.util;
+
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cobre a codificação do cursor, a validação de cursores inválidos e o limite de página.
+ */
+class CursorPaginationTest {
+
+    @Test
+    void missingCursorStartsFromTheBeginning() {
+        assertEquals(0L, CursorPagination.decodeCursor(null));
+        assertEquals(0L, CursorPagination.decodeCursor(""));
+        assertEquals(0L, CursorPagination.decodeCursor("  "));
+    }
+
+    @Test
+    void decodesTheCursorItEncodes() {
+        assertEquals(0L, CursorPagination.decodeCursor(CursorPagination.encodeCursor(0L)));
+        assertEquals(123_456_789L, CursorPagination.decodeCursor(CursorPagination.encodeCursor(123_456_789L)));
+        assertEquals(Long.MAX_VALUE, CursorPagination.decodeCursor(CursorPagination.encodeCursor(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void rejectsInvalidCursors() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor("não é base64!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor(encode("abc")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor(encode("1.5")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor(encode("99999999999999999999")));
+    }
+
+    @Test
+    void rejectsNegativeCursors() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor(encode("-1")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.decodeCursor(CursorPagination.encodeCursor(-42L)));
+    }
+
+    @Test
+    void resolvesDefaultAndClampsToMaximum() {
+        assertEquals(CursorPagination.DEFAULT_LIMIT, CursorPagination.resolveLimit(null));
+        assertEquals(1, CursorPagination.resolveLimit(1));
+        assertEquals(500, CursorPagination.resolveLimit(500));
+        assertEquals(500, CursorPagination.resolveLimit(501));
+        assertEquals(500, CursorPagination.resolveLimit(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void rejectsLimitsBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.resolveLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> CursorPagination.resolveLimit(-5));
+    }
+
+    @Test
+    void usesTheExtraRowOnlyToDetectTheNextPage() {
+        ResponseCursorPage<Long> page = CursorPagination.toPage(List.of(1L, 2L, 3L), 2, Function.identity(), rows -> rows);
+        assertEquals(List.of(1L, 2L), page.content());
+        assertEquals(2L, CursorPagination.decodeCursor(page.nextCursor()));
+
+        ResponseCursorPage<Long> last = CursorPagination.toPage(List.of(4L), 2, Function.identity(), rows -> rows);
+        assertEquals(List.of(4L), last.content());
+        assertNull(last.nextCursor());
+    }
+
+    private static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,93 @@
+package com.kodikas.backend.util;
+
+import com.kodikas.backend.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cobre a leitura dos cabeçalhos {@code If-Match} e {@code If-None-Match}: listas, ETags fracos,
+ * ETags com vários componentes e valores malformados.
+ */
+class ETagsTest {
+
+    @Test
+    void absentOrWildcardIfMatchSkipsTheCheck() {
+        assertEquals(Set.of(), ETags.parseVersions(null));
+        assertEquals(Set.of(), ETags.parseVersions("  "));
+        assertEquals(Set.of(), ETags.parseVersions("*"));
+        assertEquals(Set.of(), ETags.parseTags(" * "));
+    }
+
+    @Test
+    void parsesTheOwnVersionOfMultiComponentTags() {
+        assertEquals(Set.of(5L), ETags.parseVersions("\"5.3.2\""));
+        assertEquals(5L, ETags.parseVersion("\"5.3.2\""));
+        assertEquals(7L, ETags.parseVersion("7"));
+    }
+
+    @Test
+    void parsesListsInHeaderOrder() {
+        assertEquals(List.of(3L, 5L), List.copyOf(ETags.parseVersions("\"3.1\", \"5.2\",\"3.9\"")));
+        assertEquals(List.of("4.abc", "4.def"), List.copyOf(ETags.parseTags("\"4.abc\" , \"4.def\"")));
+    }
+
+    @Test
+    void keepsTheWholeOpaqueValueOfTags() {
+        assertEquals(Set.of("4.d41d8cd98f00b204e9800998ecf8427e"),
+                ETags.parseTags("\"4.d41d8cd98f00b204e9800998ecf8427e\""));
+    }
+
+    @Test
+    void rejectsWeakTagsInIfMatch() {
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseTags("W/\"3\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersions("\"2\", W/\"3\""));
+    }
+
+    @Test
+    void rejectsMalformedIfMatch() {
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersions("\"abc\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersions("\"3\",,\"4\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersions(",\"3\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseTags("\"\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseTags("\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseTags("\"3"));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseTags("\"3\"4\""));
+    }
+
+    @Test
+    void requireVersionAcceptsListedVersionsOrNoCheck() {
+        assertDoesNotThrow(() -> ETags.requireVersion(1L, Set.of(2L, 3L), 3L));
+        assertDoesNotThrow(() -> ETags.requireVersion(1L, Set.of(), 9L));
+        assertDoesNotThrow(() -> ETags.requireVersion(1L, null, 9L));
+        assertThrows(PreconditionFailedException.class, () -> ETags.requireVersion(1L, Set.of(2L), 3L));
+    }
+
+    @Test
+    void requireTagComparesTheWholeTag() {
+        assertDoesNotThrow(() -> ETags.requireTag(1L, Set.of("4.abc"), "4.abc"));
+        assertDoesNotThrow(() -> ETags.requireTag(1L, Set.of(), "4.abc"));
+        assertThrows(PreconditionFailedException.class, () -> ETags.requireTag(1L, Set.of("4.abc"), "4.def"));
+    }
+
+    @Test
+    void ifNoneMatchAcceptsListsWeakTagsAndWildcard() {
+        assertTrue(ETags.isNotModified(ifNoneMatch("\"1.1\", W/\"2.1\""), "\"2.1\""));
+        assertTrue(ETags.isNotModified(ifNoneMatch("*"), "\"2.1\""));
+        assertFalse(ETags.isNotModified(ifNoneMatch("\"1.1\""), "\"2.1\""));
+        assertFalse(ETags.isNotModified(ifNoneMatch("*"), null));
+        assertFalse(ETags.isNotModified(new ServletWebRequest(new MockHttpServletRequest()), "\"2.1\""));
+    }
+
+    private static ServletWebRequest ifNoneMatch(String value) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, value);
+        return new ServletWebRequest(request);
+    }
+}
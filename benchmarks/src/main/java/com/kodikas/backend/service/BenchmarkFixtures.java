@@ -0,0 +1,98 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.Project;
+import com.kodikas.backend.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Dados em memória usados pelos benchmarks, com o mesmo formato das linhas reais.
+ */
+final class BenchmarkFixtures {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final int COMPANIES = 100;
+
+    private BenchmarkFixtures() {
+    }
+
+    static Company company(long id) {
+        Company company = new Company();
+        company.setId(id);
+        company.setName("Empresa " + id);
+        company.setDescription("Descrição da empresa " + id);
+        company.setCreatedAt(CREATED_AT);
+        company.setAtivo(true);
+        return company;
+    }
+
+    static User user(long id, Company company) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Usuário " + id);
+        user.setEmail("usuario" + id + "@kodikas.com");
+        user.setPassword("hash");
+        user.setCreatedAt(CREATED_AT);
+        user.setCompany(company);
+        user.setAtivo(true);
+        return user;
+    }
+
+    static Project project(long id, User user, Company company) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Projeto " + id);
+        project.setDescription("Descrição do projeto " + id);
+        project.setCreatedAt(CREATED_AT);
+        project.setUser(user);
+        project.setCompany(company);
+        project.setAtivo(true);
+        return project;
+    }
+
+    static List<Company> companies(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(BenchmarkFixtures::company).toList();
+    }
+
+    static List<User> users(int size) {
+        List<Company> companies = companies(COMPANIES);
+        List<User> users = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            users.add(user(id, companies.get((int) (id % COMPANIES))));
+        }
+        return users;
+    }
+
+    static List<Project> projects(int size) {
+        List<User> users = users(Math.max(1, size / 10));
+        List<Project> projects = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            User user = users.get((int) (id % users.size()));
+            projects.add(project(id, user, user.getCompany()));
+        }
+        return projects;
+    }
+
+    static List<ResponseListUsers> userRows(int size) {
+        List<ResponseListUsers> rows = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            rows.add(new ResponseListUsers(id, "Usuário " + id, "usuario" + id + "@kodikas.com", true, id % COMPANIES));
+        }
+        return rows;
+    }
+
+    static List<ResponseListProject> projectRows(int size) {
+        List<ResponseListProject> rows = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            long companyId = id % COMPANIES;
+            rows.add(new ResponseListProject(id, "Projeto " + id, "Descrição do projeto " + id, true,
+                    id % 1000, "Usuário " + (id % 1000), companyId, "Empresa " + companyId));
+        }
+        return rows;
+    }
+}
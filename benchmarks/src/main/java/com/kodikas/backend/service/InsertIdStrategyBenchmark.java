@@ -0,0 +1,130 @@
+package com.kodikas.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara inserções por segundo com os comandos que o Hibernate emite em cada estratégia de ID:
+ * <ul>
+ *     <li>{@code identity}: um INSERT por linha, executado na hora para ler a chave gerada, sem batching
+ *     (como {@code GenerationType.IDENTITY}, usado antes do V6);</li>
+ *     <li>{@code pooled}: um {@code nextval} a cada 50 linhas e INSERTs em batch de 50, reescritos pelo
+ *     driver em INSERTs de várias linhas (como a sequência com {@code allocationSize = 50} e
+ *     {@code hibernate.jdbc.batch_size=50} atuais).</li>
+ * </ul>
+ * Precisa de um PostgreSQL; as tabelas são temporárias e somem ao fim da conexão. Outro banco pode ser
+ * informado com {@code -p url=... -p username=... -p password=...}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertIdStrategyBenchmark {
+    private static final int ROWS = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String COLUMNS = "name VARCHAR(100) NOT NULL, description TEXT NOT NULL, "
+            + "status VARCHAR(50) NOT NULL, applied_at TIMESTAMP NOT NULL";
+    private static final String INSERT_IDENTITY_SQL =
+            "INSERT INTO bench_identity (name, description, status, applied_at) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_POOLED_SQL =
+            "INSERT INTO bench_pooled (id, name, description, status, applied_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String NEXTVAL_SQL = "SELECT nextval('bench_pooled_seq')";
+
+    @Param("jdbc:postgresql://localhost:5432/kodikas_db?reWriteBatchedInserts=true")
+    public String url;
+
+    @Param("postgres")
+    public String username;
+
+    @Param("1234")
+    public String password;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(url, username, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE bench_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                    + COLUMNS + ")");
+            statement.execute("CREATE TEMP SEQUENCE bench_pooled_seq INCREMENT BY " + ALLOCATION_SIZE);
+            statement.execute("CREATE TEMP TABLE bench_pooled (id BIGINT PRIMARY KEY, " + COLUMNS + ")");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_identity, bench_pooled");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_IDENTITY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < ROWS; i++) {
+                bindRow(insert, 1, i, now);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooled() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement nextval = connection.prepareStatement(NEXTVAL_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_POOLED_SQL)) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            long hi = 0;
+            for (int i = 0; i < ROWS; i++) {
+                int offset = i % ALLOCATION_SIZE;
+                if (offset == 0) {
+                    try (ResultSet result = nextval.executeQuery()) {
+                        result.next();
+                        hi = result.getLong(1);
+                    }
+                }
+                lastId = hi - ALLOCATION_SIZE + 1 + offset;
+                insert.setLong(1, lastId);
+                bindRow(insert, 2, i, now);
+                insert.addBatch();
+                if (offset == ALLOCATION_SIZE - 1) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    private static void bindRow(PreparedStatement insert, int firstIndex, int row, Timestamp appliedAt) throws SQLException {
+        insert.setString(firstIndex, "Aplicação " + row);
+        insert.setString(firstIndex + 1, "Inserção de benchmark");
+        insert.setString(firstIndex + 2, "PENDENTE");
+        insert.setTimestamp(firstIndex + 3, appliedAt);
+    }
+}
@@ -0,0 +1,79 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.Project;
+import com.kodikas.backend.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Mede os mapeamentos entidade → DTO usados nas listagens, sobre uma página de entidades já carregadas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ProjectService projectService;
+    private CompanyService companyService;
+    private UserService userService;
+
+    private List<Project> projects;
+    private List<Company> companies;
+    private List<User> users;
+    private CompanyService.CompanyMembers members;
+
+    @Setup
+    public void setup() {
+        projectService = new ProjectService();
+        companyService = new CompanyService();
+        userService = new UserService(null, null, null, null, null, null);
+
+        projects = BenchmarkFixtures.projects(pageSize);
+        companies = BenchmarkFixtures.companies(pageSize);
+        users = BenchmarkFixtures.users(pageSize);
+        members = new CompanyService.CompanyMembers(
+                LongStream.rangeClosed(1, 20).boxed().toList(),
+                LongStream.rangeClosed(1, 10).boxed().toList());
+    }
+
+    @Benchmark
+    public List<ResponseListProject> projectMapToResponseList() {
+        List<ResponseListProject> result = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            result.add(ServiceMappers.projectToList(projectService, project));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ResponseCreateCompany> companyMapToResponse() {
+        List<ResponseCreateCompany> result = new ArrayList<>(companies.size());
+        for (Company company : companies) {
+            result.add(ServiceMappers.companyToResponse(companyService, company, members));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ResponseListUsers> userMapToResponse() {
+        List<ResponseListUsers> result = new ArrayList<>(users.size());
+        for (User user : users) {
+            result.add(ServiceMappers.userToList(userService, user));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.kodikas.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kodikas.backend.dto.pageDTO.ResponseCursorPage;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a serialização Jackson das respostas de listagem, tanto como página JSON única
+ * quanto como NDJSON pelo {@link NdjsonExportService}. A saída é descartada para medir só
+ * a serialização, sem o custo de crescer um buffer em memória.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ObjectWriter pageWriter;
+    private NdjsonExportService ndjsonExportService;
+    private ResponseCursorPage<ResponseListUsers> usersPage;
+    private ResponseCursorPage<ResponseListProject> projectsPage;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        pageWriter = objectMapper.writer();
+        ndjsonExportService = new NdjsonExportService(objectMapper);
+
+        List<ResponseListUsers> users = BenchmarkFixtures.userRows(rows);
+        List<ResponseListProject> projects = BenchmarkFixtures.projectRows(rows);
+        usersPage = new ResponseCursorPage<>(users, null, rows);
+        projectsPage = new ResponseCursorPage<>(projects, null, rows);
+    }
+
+    @Benchmark
+    public void usersPageJson() throws IOException {
+        pageWriter.writeValue(OutputStream.nullOutputStream(), usersPage);
+    }
+
+    @Benchmark
+    public void projectsPageJson() throws IOException {
+        pageWriter.writeValue(OutputStream.nullOutputStream(), projectsPage);
+    }
+
+    @Benchmark
+    public long usersNdjson() throws IOException {
+        return ndjsonExportService.write(usersPage.content().stream(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public long projectsNdjson() throws IOException {
+        return ndjsonExportService.write(projectsPage.content().stream(), OutputStream.nullOutputStream());
+    }
+}
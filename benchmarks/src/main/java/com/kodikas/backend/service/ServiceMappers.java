@@ -0,0 +1,62 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.dto.companiesDTO.ResponseCreateCompany;
+import com.kodikas.backend.dto.projectsDTO.ResponseListProject;
+import com.kodikas.backend.dto.userDTO.ResponseListUsers;
+import com.kodikas.backend.model.Company;
+import com.kodikas.backend.model.Project;
+import com.kodikas.backend.model.User;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Acesso dos benchmarks aos mapeamentos privados dos serviços, sem ampliar a visibilidade deles no
+ * código de produção. Os {@link MethodHandle}s são constantes, então o JIT os reduz a chamadas diretas.
+ */
+final class ServiceMappers {
+    private static final MethodHandle PROJECT_TO_LIST = find(ProjectService.class, "mapToResponseList",
+            ResponseListProject.class, Project.class);
+    private static final MethodHandle COMPANY_TO_RESPONSE = find(CompanyService.class, "mapToResponse",
+            ResponseCreateCompany.class, Company.class, CompanyService.CompanyMembers.class);
+    private static final MethodHandle USER_TO_LIST = find(UserService.class, "mapToResponse",
+            ResponseListUsers.class, User.class);
+
+    private ServiceMappers() {
+    }
+
+    static ResponseListProject projectToList(ProjectService service, Project project) {
+        try {
+            return (ResponseListProject) PROJECT_TO_LIST.invokeExact(service, project);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static ResponseCreateCompany companyToResponse(CompanyService service, Company company,
+                                                   CompanyService.CompanyMembers members) {
+        try {
+            return (ResponseCreateCompany) COMPANY_TO_RESPONSE.invokeExact(service, company, members);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static ResponseListUsers userToList(UserService service, User user) {
+        try {
+            return (ResponseListUsers) USER_TO_LIST.invokeExact(service, user);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle find(Class<?> owner, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .findVirtual(owner, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Mapeamento " + owner.getSimpleName() + "." + name + " não encontrado", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kodikas.backend.service;
+
+import com.kodikas.backend.exception.UserNotFoundException;
+import com.kodikas.backend.model.User;
+import com.kodikas.backend.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de sucesso de {@link UserService#getUser(Long)} com o caminho de "não encontrado",
+ * que lança {@link UserNotFoundException}. O repositório é um stub em memória para isolar o custo
+ * da exceção (criação e preenchimento do stack trace) do acesso ao banco.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserLookupBenchmark {
+    private static final Long EXISTING_ID = 1L;
+    private static final Long MISSING_ID = 2L;
+
+    private UserService userService;
+
+    @Setup
+    public void setup() {
+        User user = BenchmarkFixtures.user(EXISTING_ID, BenchmarkFixtures.company(1L));
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> EXISTING_ID.equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    case "findVersionTagById" -> EXISTING_ID.equals(args[0]) ? Optional.of("0.0") : Optional.empty();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepositoryStub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        userService = new UserService(repository, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Object found() {
+        return userService.getUser(EXISTING_ID);
+    }
+
+    @Benchmark
+    public Object notFound() {
+        try {
+            return userService.getUser(MISSING_ID);
+        } catch (UserNotFoundException e) {
+            return e;
+        }
+    }
+}
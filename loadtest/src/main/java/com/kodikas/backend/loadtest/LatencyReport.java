@@ -0,0 +1,95 @@
+package com.kodikas.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Acumula a latência de cada endpoint em um histograma HDR e gera o relatório final
+ * com vazão e percentis p50/p99/p999.
+ */
+class LatencyReport {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.histogram.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void print(PrintStream out, double elapsedSeconds) {
+        out.printf("%-28s %10s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (String[] row : rows(elapsedSeconds)) {
+            out.printf("%-28s %10s %8s %10s %10s %10s %10s %10s%n", (Object[]) row);
+        }
+    }
+
+    void writeCsv(Path file, double elapsedSeconds) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,requests,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms");
+        for (String[] row : rows(elapsedSeconds)) {
+            lines.add(String.join(",", row));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.write(file, lines);
+    }
+
+    private List<String[]> rows(double elapsedSeconds) {
+        List<String[]> rows = new ArrayList<>();
+        Histogram total = new Histogram(MAX_LATENCY_NANOS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().histogram.copy();
+            long errors = entry.getValue().errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            rows.add(row(entry.getKey(), histogram, errors, elapsedSeconds));
+        }
+        rows.add(row("TOTAL", total, totalErrors, elapsedSeconds));
+        return rows;
+    }
+
+    private static String[] row(String endpoint, Histogram histogram, long errors, double elapsedSeconds) {
+        return new String[]{
+                endpoint,
+                String.valueOf(histogram.getTotalCount()),
+                String.valueOf(errors),
+                format(histogram.getTotalCount() / elapsedSeconds),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+        };
+    }
+
+    private static String millis(long nanos) {
+        return format(nanos / NANOS_PER_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static final class EndpointStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
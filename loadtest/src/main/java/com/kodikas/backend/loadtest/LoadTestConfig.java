@@ -0,0 +1,102 @@
+package com.kodikas.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Parâmetros do teste de carga. Os valores padrão ficam em {@code loadtest.properties} e podem
+ * ser sobrescritos por propriedades de sistema com o mesmo nome (ex.: {@code -Dloadtest.companies=500}).
+ *
+ * @param companies           Quantidade de empresas geradas.
+ * @param usersPerCompany     Usuários gerados por empresa.
+ * @param projectsPerUser     Projetos gerados por usuário.
+ * @param applicationsPerUser Aplicações geradas por usuário.
+ * @param concurrency         Quantidade de clientes simultâneos (cada um em laço fechado).
+ * @param warmupSeconds       Duração do aquecimento, descartado do relatório.
+ * @param durationSeconds     Duração da medição.
+ * @param writeRatio          Fração das requisições que são escritas (0 a 1).
+ * @param profiles            Perfis Spring ativados na aplicação (ex.: {@code virtual}).
+ */
+record LoadTestConfig(
+        int companies,
+        int usersPerCompany,
+        int projectsPerUser,
+        int applicationsPerUser,
+        int concurrency,
+        int warmupSeconds,
+        int durationSeconds,
+        double writeRatio,
+        String[] profiles
+) {
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith(PREFIX))
+                .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+
+        LoadTestConfig config = new LoadTestConfig(
+                intValue(properties, "companies"),
+                intValue(properties, "users-per-company"),
+                intValue(properties, "projects-per-user"),
+                intValue(properties, "applications-per-user"),
+                intValue(properties, "concurrency"),
+                intValue(properties, "warmup-seconds"),
+                intValue(properties, "duration-seconds"),
+                Double.parseDouble(value(properties, "write-ratio")),
+                Arrays.stream(properties.getProperty(PREFIX + "profiles", "").split(","))
+                        .map(String::trim)
+                        .filter(profile -> !profile.isEmpty())
+                        .toArray(String[]::new)
+        );
+        config.validate();
+        return config;
+    }
+
+    long users() {
+        return (long) companies * usersPerCompany;
+    }
+
+    long projects() {
+        return users() * projectsPerUser;
+    }
+
+    long applications() {
+        return users() * applicationsPerUser;
+    }
+
+    private void validate() {
+        if (companies < 1 || usersPerCompany < 1) {
+            throw new IllegalArgumentException("São necessárias ao menos uma empresa e um usuário por empresa.");
+        }
+        if (projectsPerUser < 0 || applicationsPerUser < 0) {
+            throw new IllegalArgumentException("As quantidades de projetos e aplicações não podem ser negativas.");
+        }
+        if (concurrency < 1 || durationSeconds < 1 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("Concorrência e duração devem ser maiores que zero.");
+        }
+        if (writeRatio < 0 || writeRatio > 1) {
+            throw new IllegalArgumentException("A fração de escrita deve estar entre 0 e 1.");
+        }
+    }
+
+    private static int intValue(Properties properties, String name) {
+        return Integer.parseInt(value(properties, name));
+    }
+
+    private static String value(Properties properties, String name) {
+        String value = properties.getProperty(PREFIX + name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Propriedade obrigatória ausente: " + PREFIX + name);
+        }
+        return value.trim();
+    }
+}
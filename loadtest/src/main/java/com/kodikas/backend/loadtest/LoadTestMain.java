@@ -0,0 +1,114 @@
+package com.kodikas.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kodikas.backend.KodikasBackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Teste de carga ponta a ponta: sobe um PostgreSQL embarcado, inicia o {@link KodikasBackendApplication}
+ * contra ele (o Flyway cria o schema), gera a massa sintética e executa a carga mista de leitura e escrita
+ * nos quatro controladores. Ao final imprime vazão e p50/p99/p999 por endpoint e grava o mesmo relatório
+ * em {@code target/loadtest-result-<perfis>.csv} ({@code default} sem perfis), para que as execuções com
+ * {@code -Dloadtest.profiles=virtual} e sem perfis possam ser comparadas lado a lado.
+ */
+public final class LoadTestMain {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestMain.class);
+    private static final String RESULT_FILE = "target/loadtest-result-%s.csv";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext app = startApplication(postgres, config)) {
+            new SyntheticDataGenerator(postgres.getPostgresDatabase()).generate(config);
+
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            Workload workload = new Workload(port, config, new ObjectMapper());
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            logger.warn("Aquecimento por {} s com {} clientes", config.warmupSeconds(), config.concurrency());
+            run(client, workload, config.concurrency(), config.warmupSeconds(), new LatencyReport());
+
+            logger.warn("Medição por {} s com {} clientes", config.durationSeconds(), config.concurrency());
+            LatencyReport report = new LatencyReport();
+            long start = System.nanoTime();
+            run(client, workload, config.concurrency(), config.durationSeconds(), report);
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            report.print(System.out, elapsedSeconds);
+            String profiles = config.profiles().length > 0 ? String.join("-", config.profiles()) : "default";
+            report.writeCsv(Path.of(RESULT_FILE.formatted(profiles)), elapsedSeconds);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, LoadTestConfig config) {
+        // Argumentos de linha de comando têm precedência sobre o application.properties da aplicação.
+        return new SpringApplicationBuilder(KodikasBackendApplication.class)
+                .profiles(config.profiles())
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true",
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.kodikas.backend=WARN"
+                );
+    }
+
+    private static void run(HttpClient client, Workload workload, int concurrency, int seconds,
+                            LatencyReport report) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> loop(client, workload, deadline, report)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void loop(HttpClient client, Workload workload, long deadline, LatencyReport report) {
+        while (System.nanoTime() < deadline) {
+            Workload.Call call = workload.next();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(call.request(), HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            report.record(call.endpoint(), System.nanoTime() - start, success);
+        }
+    }
+}
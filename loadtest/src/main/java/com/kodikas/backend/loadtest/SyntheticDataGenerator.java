@@ -0,0 +1,113 @@
+package com.kodikas.backend.loadtest;
+
+import com.kodikas.backend.model.ApplicationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Popula o schema criado pelo Flyway com dados sintéticos, direto no banco com
+ * {@code generate_series}, para que milhões de linhas fiquem prontas em segundos.
+ * <p>
+ * Os IDs são contíguos a partir de 1, o que permite ao {@link Workload} sortear IDs existentes
+ * sem consultar o banco. Ao final as sequências são avançadas além do maior ID gerado, respeitando
+ * o incremento de 50 usado pelo otimizador pooled do Hibernate.
+ */
+class SyntheticDataGenerator {
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final String INSERT_COMPANIES = """
+            INSERT INTO companies (id, name, description, created_at, ativo)
+            SELECT g, 'Empresa ' || g, 'Empresa sintética ' || g, now(), TRUE
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final String INSERT_USERS = """
+            INSERT INTO users (id, name, email, password_hash, company_id, created_at, ativo)
+            SELECT g, 'Usuário ' || g, 'usuario' || g || '@loadtest.local', 'hash', (g - 1) / ? + 1, now(), TRUE
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final String INSERT_PROJECTS = """
+            INSERT INTO projects (id, user_id, company_id, name, description, created_at, ativo)
+            SELECT g, (g - 1) / ? + 1, ((g - 1) / ?) / ? + 1, 'Projeto ' || g, 'Projeto sintético ' || g, now(), TRUE
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final String INSERT_APPLICATIONS = """
+            INSERT INTO applications (id, user_id, name, description, status, applied_at, ativo)
+            SELECT g, (g - 1) / ? + 1, 'Aplicação ' || g, 'Aplicação sintética ' || g,
+                   (?::text[])[1 + g % ?], now(), TRUE
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final String[] TABLES = {"companies", "users", "projects", "applications"};
+
+    private final DataSource dataSource;
+
+    SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    void generate(LoadTestConfig config) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            execute(connection, INSERT_COMPANIES, config.companies());
+            execute(connection, INSERT_USERS, config.usersPerCompany(), config.users());
+            if (config.projectsPerUser() > 0) {
+                execute(connection, INSERT_PROJECTS, config.projectsPerUser(), config.projectsPerUser(),
+                        config.usersPerCompany(), config.projects());
+            }
+            if (config.applicationsPerUser() > 0) {
+                insertApplications(connection, config);
+            }
+            advanceSequences(connection);
+
+            connection.commit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+        logger.info("Dados sintéticos gerados em {} ms: {} empresas, {} usuários, {} projetos, {} aplicações",
+                (System.nanoTime() - start) / 1_000_000, config.companies(), config.users(),
+                config.projects(), config.applications());
+    }
+
+    private void insertApplications(Connection connection, LoadTestConfig config) throws SQLException {
+        String[] statuses = Arrays.stream(ApplicationStatus.values()).map(Enum::name).toArray(String[]::new);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_APPLICATIONS)) {
+            statement.setLong(1, config.applicationsPerUser());
+            statement.setArray(2, connection.createArrayOf("text", statuses));
+            statement.setInt(3, statuses.length);
+            statement.setLong(4, config.applications());
+            statement.executeUpdate();
+        }
+    }
+
+    private void advanceSequences(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                statement.execute("SELECT setval('" + table + "_id_seq', COALESCE((SELECT max(id) FROM "
+                        + table + "), 0) + 50)");
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql, long... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setLong(i + 1, params[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+}
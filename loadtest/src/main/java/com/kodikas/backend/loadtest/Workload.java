@@ -0,0 +1,140 @@
+package com.kodikas.backend.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kodikas.backend.constants.ApiPaths;
+import com.kodikas.backend.dto.applicationsDTO.DataCreateApplicationDTO;
+import com.kodikas.backend.dto.applicationsDTO.DataUpdateStatusApplicationDTO;
+import com.kodikas.backend.dto.companiesDTO.DataUpdateCompany;
+import com.kodikas.backend.dto.projectsDTO.DataCreateProjectDTO;
+import com.kodikas.backend.dto.userDTO.DataCreateUserDTO;
+import com.kodikas.backend.model.ApplicationStatus;
+import com.kodikas.backend.util.CursorPagination;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+/**
+ * Sorteia a próxima requisição da carga mista. Leituras e escritas são distribuídas
+ * igualmente entre os quatro controladores, na proporção definida por {@code writeRatio}.
+ * Os IDs sorteados ficam dentro da faixa criada pelo {@link SyntheticDataGenerator}.
+ */
+class Workload {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final int PAGE_SIZE = 50;
+    private static final int STATUS_BATCH = 10;
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    record Call(String endpoint, HttpRequest request) {
+    }
+
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+
+    Workload(int port, LoadTestConfig config, ObjectMapper objectMapper) {
+        this.baseUrl = "http://localhost:" + port + ApiPaths.API_V1;
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    Call next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextDouble() < config.writeRatio() ? nextWrite(random) : nextRead(random);
+    }
+
+    private Call nextRead(ThreadLocalRandom random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> list("/users", config.users(), random);
+            case 1 -> byId("/users", config.users(), random);
+            case 2 -> list("/projects", config.projects(), random);
+            case 3 -> byId("/projects", config.projects(), random);
+            case 4 -> list("/companies", config.companies(), random);
+            case 5 -> byId("/companies", config.companies(), random);
+            case 6 -> list("/applcations", config.applications(), random);
+            default -> byId("/applcations", config.applications(), random);
+        };
+    }
+
+    private Call nextWrite(ThreadLocalRandom random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> createApplication(random);
+            case 1 -> updateApplicationsStatus(random);
+            case 2 -> createProject(random);
+            case 3 -> createUser();
+            default -> updateCompany(random);
+        };
+    }
+
+    private Call list(String resource, long total, ThreadLocalRandom random) {
+        long afterId = total > PAGE_SIZE ? random.nextLong(total - PAGE_SIZE) : 0;
+        String url = baseUrl + resource + "/list?limit=" + PAGE_SIZE + "&after=" + CursorPagination.encodeCursor(afterId);
+        return new Call("GET " + resource + "/list", get(url));
+    }
+
+    private Call byId(String resource, long total, ThreadLocalRandom random) {
+        return new Call("GET " + resource + "/{id}", get(baseUrl + resource + "/" + randomId(total, random)));
+    }
+
+    private Call createApplication(ThreadLocalRandom random) {
+        DataCreateApplicationDTO body = new DataCreateApplicationDTO(
+                "Aplicação de carga", "Criada pelo teste de carga",
+                STATUSES[random.nextInt(STATUSES.length)], randomId(config.users(), random));
+        return new Call("POST /applcations/create", send("POST", "/applcations/create", body));
+    }
+
+    private Call updateApplicationsStatus(ThreadLocalRandom random) {
+        if (config.applications() == 0) {
+            return createApplication(random);
+        }
+        long first = randomId(Math.max(1, config.applications() - STATUS_BATCH), random);
+        List<Long> ids = LongStream.range(first, Math.min(first + STATUS_BATCH, config.applications() + 1)).boxed().toList();
+        DataUpdateStatusApplicationDTO body = new DataUpdateStatusApplicationDTO(ids, STATUSES[random.nextInt(STATUSES.length)]);
+        return new Call("PUT /applcations/status", send("PUT", "/applcations/status", body));
+    }
+
+    private Call createProject(ThreadLocalRandom random) {
+        long userId = randomId(config.users(), random);
+        long companyId = (userId - 1) / config.usersPerCompany() + 1;
+        DataCreateProjectDTO body = new DataCreateProjectDTO(
+                "Projeto de carga", "Criado pelo teste de carga", userId, companyId);
+        return new Call("POST /projects/create", send("POST", "/projects/create", body));
+    }
+
+    private Call createUser() {
+        String suffix = UUID.randomUUID().toString();
+        DataCreateUserDTO body = new DataCreateUserDTO("Usuário " + suffix, suffix + "@loadtest.local", "senha");
+        return new Call("POST /users/create", send("POST", "/users/create", body));
+    }
+
+    private Call updateCompany(ThreadLocalRandom random) {
+        long id = randomId(config.companies(), random);
+        DataUpdateCompany body = new DataUpdateCompany(null, "Atualizada em " + System.nanoTime(), null, null, null);
+        return new Call("PUT /companies/{id}", send("PUT", "/companies/" + id, body));
+    }
+
+    private HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(TIMEOUT).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar corpo da requisição", e);
+        }
+    }
+
+    private static long randomId(long total, ThreadLocalRandom random) {
+        return total > 0 ? random.nextLong(total) + 1 : 1;
+    }
+}
@@ -1,10 +0,0 @@
-package com.kodikas.backend.repository;
-
-import com.kodikas.backend.model.Project;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.List;
-
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByAtivoTrue();
-}